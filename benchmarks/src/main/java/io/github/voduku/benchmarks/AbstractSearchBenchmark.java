@@ -0,0 +1,86 @@
+package io.github.voduku.benchmarks;
+
+import io.github.voduku.benchmarks.model.Student;
+import io.github.voduku.benchmarks.model.StudentSearch;
+import io.github.voduku.model.criteria.CriteriaHandler;
+import io.github.voduku.model.criteria.NumberCriteria;
+import io.github.voduku.model.criteria.StringCriteria;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * // @formatter:off
+ * Measure creating a search as data binding does for every request. The default constructor resolves excludable fields from the generic type of the search
+ * class. Setting includes or excludes computes the other set. Criteria are read with the accessor generated for the search class.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AbstractSearchBenchmark {
+
+  private final LinkedHashSet<String> fields = new LinkedHashSet<>(List.of(Student.Fields.id.name(), Student.Fields.name.name()));
+  private final StudentSearch filtered = filtered();
+
+  @Benchmark
+  public StudentSearch construct() {
+    return new StudentSearch();
+  }
+
+  @Benchmark
+  public StudentSearch setIncludes() {
+    StudentSearch search = new StudentSearch();
+    search.setIncludes(new LinkedHashSet<>(fields));
+    return search;
+  }
+
+  @Benchmark
+  public StudentSearch setExcludes() {
+    StudentSearch search = new StudentSearch();
+    search.setExcludes(new LinkedHashSet<>(fields));
+    return search;
+  }
+
+  @Benchmark
+  public StudentSearch setIncludesExcludingMetadata() {
+    StudentSearch search = new StudentSearch();
+    search.setExcludeMetadata(true);
+    search.setIncludes(new LinkedHashSet<>(fields));
+    return search;
+  }
+
+  @Benchmark
+  public Map<String, CriteriaHandler<?>> getCriteria() {
+    return filtered.getCriteria();
+  }
+
+  @Benchmark
+  public void forEachCriteria(Blackhole blackhole) {
+    filtered.forEachCriteria((column, criteria) -> blackhole.consume(criteria));
+  }
+
+  private static StudentSearch filtered() {
+    StudentSearch search = new StudentSearch();
+    search.setAge(new NumberCriteria().setGte(18));
+    search.setName((StringCriteria) new StringCriteria().setEq("name"));
+    return search;
+  }
+}
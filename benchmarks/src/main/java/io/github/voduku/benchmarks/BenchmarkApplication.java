@@ -0,0 +1,33 @@
+package io.github.voduku.benchmarks;
+
+import io.github.voduku.autoconfigure.VerifySearchClassesAutoConfig;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * // @formatter:off
+ * Application of the benchmarks needing a database. It runs on an in-memory H2 database without a web server.
+ * <br>{@link VerifySearchClassesAutoConfig} is excluded since it guesses packages to scan from the command line which is the JMH runner in forked JVMs.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@SpringBootApplication(exclude = VerifySearchClassesAutoConfig.class)
+@EnableJpaRepositories(repositoryBaseClass = BenchmarkRepositoryImpl.class)
+public class BenchmarkApplication {
+
+  public static ConfigurableApplicationContext start(String name) {
+    return new SpringApplicationBuilder(BenchmarkApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties("spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.main.banner-mode=off",
+            "springdoc.api-docs.enabled=false",
+            "logging.level.root=warn")
+        .run();
+  }
+}
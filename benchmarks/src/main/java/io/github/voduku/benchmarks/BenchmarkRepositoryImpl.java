@@ -0,0 +1,76 @@
+package io.github.voduku.benchmarks;
+
+import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.criteria.CriteriaParameters;
+import io.github.voduku.repository.RepositoryImpl;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+
+/**
+ * // @formatter:off
+ * Repository base class of the benchmarks exposing protected steps of {@link RepositoryImpl} so they can be measured without a database round trip. Call them
+ * on the target of a repository proxy ({@link Database#target(Object)}) to leave transactions out of measurements.
+ * <br>It doesn't override any method creating queries so rendered queries are still cached.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class BenchmarkRepositoryImpl<ENTITY, KEY extends Serializable> extends RepositoryImpl<ENTITY, KEY> {
+
+  private final EntityManager em;
+  private final CriteriaBuilder cb;
+
+  public BenchmarkRepositoryImpl(JpaEntityInformation<ENTITY, ?> entityInformation, EntityManager em) {
+    super(entityInformation, em);
+    this.em = em;
+    this.cb = em.getCriteriaBuilder();
+  }
+
+  /**
+   * @return the number of predicates built by {@code criteriaSql} with values rendered as literals
+   */
+  public int buildPredicates(AbstractSearch<?> params) {
+    CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+    Root<ENTITY> root = cq.from(getEntityClass());
+    criteriaSql(cq, root, null, params);
+    return cq.getRestriction() == null ? 0 : cq.getRestriction().getExpressions().size();
+  }
+
+  /**
+   * @return the number of predicates built by {@code criteriaSql} with values bound as named parameters
+   */
+  public int buildParameterizedPredicates(AbstractSearch<?> params) {
+    CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+    Root<ENTITY> root = cq.from(getEntityClass());
+    criteriaSql(cq, root, null, params, null, new CriteriaParameters(cb));
+    return cq.getRestriction() == null ? 0 : cq.getRestriction().getExpressions().size();
+  }
+
+  /**
+   * @return rows of the given fields in the order of {@code fields} which can be passed to {@link #mapRow(Set, Tuple)}
+   */
+  public List<Tuple> findRows(Set<String> fields, int limit) {
+    CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+    Root<ENTITY> root = cq.from(getEntityClass());
+    cq.multiselect(fields.stream().map(field -> root.get(field).alias(field)).collect(Collectors.toList()));
+    return em.createQuery(cq).setMaxResults(limit).getResultList();
+  }
+
+  public ENTITY mapRow(Set<String> fields, Tuple tuple) {
+    return mapRowToObject(fields, tuple, getEntityClass());
+  }
+
+  public Map<String, Object> keyValues(KEY key) {
+    return getKeyValues(key);
+  }
+}
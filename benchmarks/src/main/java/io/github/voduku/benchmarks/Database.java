@@ -0,0 +1,91 @@
+package io.github.voduku.benchmarks;
+
+import io.github.voduku.benchmarks.model.Enrollment;
+import io.github.voduku.benchmarks.model.EnrollmentRepository;
+import io.github.voduku.benchmarks.model.Student;
+import io.github.voduku.benchmarks.model.StudentRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.SneakyThrows;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.framework.Advised;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * {@link BenchmarkApplication} shared by the benchmarks of a fork. {@code rows} students with two enrollments each are inserted on setup.
+ * <br>Steps exposed by {@link BenchmarkRepositoryImpl} are called on repositories without their proxies.
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+public class Database {
+
+  private static final String[] COURSES = {"math", "physics", "chemistry", "history"};
+
+  @Param({"10000"})
+  public int rows;
+
+  private ConfigurableApplicationContext context;
+  private StudentRepository students;
+  private EnrollmentRepository enrollments;
+  private BenchmarkRepositoryImpl<Student, Long> studentSteps;
+  private BenchmarkRepositoryImpl<Enrollment, Enrollment.Key> enrollmentSteps;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkApplication.start("benchmarks");
+    students = context.getBean(StudentRepository.class);
+    enrollments = context.getBean(EnrollmentRepository.class);
+    Random random = new Random(42);
+    List<Student> entities = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      entities.add(new Student(null, "student " + i, 18 + random.nextInt(40), random.nextInt(100)));
+    }
+    List<Enrollment> enrolled = new ArrayList<>(rows * 2);
+    for (Student student : students.insertAll(entities, 1000)) {
+      enrolled.add(new Enrollment(student.getId(), COURSES[random.nextInt(2)], random.nextInt(100)));
+      enrolled.add(new Enrollment(student.getId(), COURSES[2 + random.nextInt(2)], random.nextInt(100)));
+    }
+    enrollments.insertAll(enrolled, 1000);
+    studentSteps = target(students);
+    enrollmentSteps = target(enrollments);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  public StudentRepository students() {
+    return students;
+  }
+
+  public EnrollmentRepository enrollments() {
+    return enrollments;
+  }
+
+  public BenchmarkRepositoryImpl<Student, Long> studentSteps() {
+    return studentSteps;
+  }
+
+  public BenchmarkRepositoryImpl<Enrollment, Enrollment.Key> enrollmentSteps() {
+    return enrollmentSteps;
+  }
+
+  /**
+   * @param repository repository proxy
+   * @return the repository instance behind the proxy and its transaction interceptor
+   */
+  @SneakyThrows
+  @SuppressWarnings("unchecked")
+  public static <T> T target(Object repository) {
+    return (T) ((Advised) repository).getTargetSource().getTarget();
+  }
+}
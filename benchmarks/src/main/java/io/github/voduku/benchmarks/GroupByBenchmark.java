@@ -0,0 +1,125 @@
+package io.github.voduku.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * // @formatter:off
+ * Compare page queries of {@code RepositoryImpl} with and without the {@code GROUP BY} over id fields it used to add to every entity query. Both queries
+ * return the same rows since ids are unique. Query plans of both are printed on setup.
+ * <br>{@code mode} runs H2 natively and in PostgreSQL compatibility mode.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupByBenchmark {
+
+  private static final String SELECT = "select s.id, s.name, s.age, s.score from student s where s.age >= ?";
+  private static final String PAGE = " order by s.age desc limit 20 offset ?";
+  private static final String PLAIN = SELECT + PAGE;
+  private static final String GROUPED = SELECT + " group by s.id, s.name, s.age, s.score" + PAGE;
+
+  @Param({"h2", "postgresql"})
+  public String mode;
+  @Param({"100000"})
+  public int rows;
+
+  private Connection connection;
+  private PreparedStatement plain;
+  private PreparedStatement grouped;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    String url = "jdbc:h2:mem:group-by-" + mode + (mode.equals("postgresql") ? ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE" : "");
+    connection = DriverManager.getConnection(url, "sa", "");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("create table student (id bigint primary key, name varchar(255), age int, score int)");
+      statement.execute("create index student_age on student (age)");
+    }
+    try (PreparedStatement insert = connection.prepareStatement("insert into student values (?, ?, ?, ?)")) {
+      for (int i = 0; i < rows; i++) {
+        insert.setLong(1, i);
+        insert.setString(2, "student " + i);
+        insert.setInt(3, i % 100);
+        insert.setInt(4, i % 1000);
+        insert.addBatch();
+        if (i % 1000 == 999) {
+          insert.executeBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("analyze");
+    }
+    printPlan(PLAIN);
+    printPlan(GROUPED);
+    plain = connection.prepareStatement(PLAIN);
+    grouped = connection.prepareStatement(GROUPED);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public void plain(Blackhole blackhole) throws SQLException {
+    execute(plain, blackhole);
+  }
+
+  @Benchmark
+  public void groupedById(Blackhole blackhole) throws SQLException {
+    execute(grouped, blackhole);
+  }
+
+  private static void execute(PreparedStatement query, Blackhole blackhole) throws SQLException {
+    query.setInt(1, 50);
+    query.setInt(2, ThreadLocalRandom.current().nextInt(100) * 20);
+    try (ResultSet results = query.executeQuery()) {
+      while (results.next()) {
+        blackhole.consume(results.getLong(1));
+        blackhole.consume(results.getString(2));
+      }
+    }
+  }
+
+  private void printPlan(String sql) throws SQLException {
+    try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+      explain.setInt(1, 50);
+      explain.setInt(2, 0);
+      try (ResultSet plan = explain.executeQuery()) {
+        while (plan.next()) {
+          System.out.println(mode + ": " + plan.getString(1).replaceAll("\\s+", " "));
+        }
+      }
+    }
+  }
+}
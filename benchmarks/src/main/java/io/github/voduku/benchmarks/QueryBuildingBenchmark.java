@@ -0,0 +1,97 @@
+package io.github.voduku.benchmarks;
+
+import io.github.voduku.benchmarks.model.Enrollment;
+import io.github.voduku.benchmarks.model.Student;
+import io.github.voduku.benchmarks.model.StudentSearch;
+import io.github.voduku.model.criteria.NumberCriteria;
+import io.github.voduku.model.criteria.StringCriteria;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * // @formatter:off
+ * Measure steps of a query which don't hit the database: building predicates of criteria ({@code criteriaSql}), mapping projected rows to entities
+ * ({@code mapRowToObject}) and converting keys to field values.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBuildingBenchmark {
+
+  private static final int ROWS = 20;
+
+  private final Set<String> projected = new LinkedHashSet<>(List.of(Student.Fields.id.name(), Student.Fields.name.name()));
+  private final Set<String> full = new LinkedHashSet<>(List.of(Student.Fields.id.name(), Student.Fields.name.name(), Student.Fields.age.name(),
+      Student.Fields.score.name()));
+  private final Enrollment.Key compositeKey = new Enrollment.Key(1L, "math");
+  private StudentSearch search;
+  private List<Tuple> projectedRows;
+  private List<Tuple> fullRows;
+
+  @Setup(Level.Trial)
+  public void setUp(Database database) {
+    search = new StudentSearch();
+    search.setName(new StringCriteria().setLike("student 1"));
+    search.setAge(new NumberCriteria().setGte(20).setLt(40));
+    search.setScore((NumberCriteria) new NumberCriteria().setIn(List.of(10, 20, 30)));
+    projectedRows = database.studentSteps().findRows(projected, ROWS);
+    fullRows = database.studentSteps().findRows(full, ROWS);
+  }
+
+  @Benchmark
+  public int criteriaSql(Database database) {
+    return database.studentSteps().buildPredicates(search);
+  }
+
+  @Benchmark
+  public int parameterizedCriteriaSql(Database database) {
+    return database.studentSteps().buildParameterizedPredicates(search);
+  }
+
+  @Benchmark
+  public void mapProjectedRows(Database database, Blackhole blackhole) {
+    for (Tuple row : projectedRows) {
+      blackhole.consume(database.studentSteps().mapRow(projected, row));
+    }
+  }
+
+  @Benchmark
+  public void mapFullRows(Database database, Blackhole blackhole) {
+    for (Tuple row : fullRows) {
+      blackhole.consume(database.studentSteps().mapRow(full, row));
+    }
+  }
+
+  @Benchmark
+  public Map<String, Object> singleKey(Database database) {
+    return database.studentSteps().keyValues(1L);
+  }
+
+  @Benchmark
+  public Map<String, Object> compositeKey(Database database) {
+    return database.enrollmentSteps().keyValues(compositeKey);
+  }
+}
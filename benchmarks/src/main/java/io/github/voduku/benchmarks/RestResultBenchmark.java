@@ -0,0 +1,75 @@
+package io.github.voduku.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.voduku.benchmarks.model.StudentResponse;
+import io.github.voduku.model.RestResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measure serializing {@link RestResult} bodies of controllers with an {@link ObjectMapper} configured like the one of Spring Boot.
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestResultBenchmark {
+
+  @Param({"20", "200"})
+  public int size;
+
+  private ObjectMapper mapper;
+  private RestResult<StudentResponse> one;
+  private RestResult<SliceImpl<StudentResponse>> slice;
+  private RestResult<PageImpl<StudentResponse>> page;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    mapper = Jackson2ObjectMapperBuilder.json().build();
+    List<StudentResponse> content = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      content.add(new StudentResponse((long) i, "student " + i, 18 + i % 40, i % 100));
+    }
+    one = RestResult.ok(content.get(0));
+    slice = RestResult.ok(new SliceImpl<>(content, PageRequest.of(0, size), true));
+    page = RestResult.ok(new PageImpl<>(content, PageRequest.of(0, size), size * 10L));
+  }
+
+  @Benchmark
+  public byte[] one() throws JsonProcessingException {
+    return mapper.writeValueAsBytes(one);
+  }
+
+  @Benchmark
+  public byte[] slice() throws JsonProcessingException {
+    return mapper.writeValueAsBytes(slice);
+  }
+
+  @Benchmark
+  public byte[] page() throws JsonProcessingException {
+    return mapper.writeValueAsBytes(page);
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.voduku.benchmarks;
+
+import io.github.voduku.benchmarks.model.Student;
+import io.github.voduku.benchmarks.model.StudentSearch;
+import io.github.voduku.model.criteria.NumberCriteria;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Measure searches end to end against the in-memory H2 database of {@link Database}: query creation, execution and mapping of a page of 20 rows.
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+  private final Pageable pageable = PageRequest.of(1, 20, Sort.by(Student.Fields.age.name()));
+
+  @Benchmark
+  public Slice<Student> search(Database database) {
+    return database.students().search(search(), pageable);
+  }
+
+  @Benchmark
+  public Slice<Student> searchProjected(Database database) {
+    StudentSearch search = search();
+    search.setIncludes(new LinkedHashSet<>(List.of(Student.Fields.id.name(), Student.Fields.name.name())));
+    return database.students().search(search, pageable);
+  }
+
+  @Benchmark
+  public Page<Student> searchPage(Database database) {
+    return database.students().searchPage(search(), pageable);
+  }
+
+  /**
+   * A new search per invocation like one bound from a request
+   */
+  private StudentSearch search() {
+    StudentSearch search = new StudentSearch();
+    search.setAge(new NumberCriteria().setGte(20).setLt(40));
+    return search;
+  }
+}
@@ -0,0 +1,45 @@
+package io.github.voduku.benchmarks.model;
+
+import java.io.Serializable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+
+/**
+ * Entity with a composite key
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldNameConstants(asEnum = true)
+@IdClass(Enrollment.Key.class)
+public class Enrollment {
+
+  @Id
+  private Long studentId;
+  @Id
+  private String course;
+  private Integer grade;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long studentId;
+    private String course;
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.voduku.benchmarks.model;
+
+import io.github.voduku.repository.Repository;
+
+/**
+ * @author VuDo
+ * @since 1.3.0
+ */
+public interface StudentRepository extends Repository<Student, Long> {
+
+}
@@ -0,0 +1,20 @@
+package io.github.voduku.benchmarks.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentResponse {
+
+  private Long id;
+  private String name;
+  private Integer age;
+  private Integer score;
+}
@@ -0,0 +1,21 @@
+package io.github.voduku.benchmarks.model;
+
+import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.criteria.NumberCriteria;
+import io.github.voduku.model.criteria.StringCriteria;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class StudentSearch extends AbstractSearch<Student.Fields> {
+
+  private NumberCriteria id;
+  private StringCriteria name;
+  private NumberCriteria age;
+  private NumberCriteria score;
+}
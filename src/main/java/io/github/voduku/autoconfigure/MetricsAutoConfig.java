@@ -0,0 +1,30 @@
+package io.github.voduku.autoconfigure;
+
+import io.github.voduku.metrics.MetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * // @formatter:off
+ * Record metrics of repositories and services when Micrometer is on the classpath. The {@link MeterRegistry} bean is used if there is one (Ex: with Spring
+ * Boot Actuator), otherwise {@link Metrics#globalRegistry}. Set {@code abstraction.metrics.enabled=false} to disable.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(name = "abstraction.metrics.enabled", matchIfMissing = true)
+public class MetricsAutoConfig {
+
+  @Bean
+  public static MetricsPostProcessor abstractionMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+    return new MetricsPostProcessor(() -> registry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
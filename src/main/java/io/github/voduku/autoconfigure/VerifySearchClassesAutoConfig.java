@@ -1,53 +1,112 @@
 package io.github.voduku.autoconfigure;
 
 import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.SearchMetadata;
 import io.github.voduku.model.criteria.SearchCriteria;
+import io.github.voduku.processor.SearchProcessor;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
-import java.util.Set;
+import java.util.Properties;
 import lombok.SneakyThrows;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
+ * // @formatter:off
+ * Verify that search classes only declare {@link SearchCriteria} fields and build their {@link SearchMetadata} at startup. Search classes and their
+ * verification results are read from the index written at compile time by {@link SearchProcessor} ({@link SearchProcessor#SEARCH_INDEX}). Indexes of
+ * every jar are merged so auto configuration packages without any indexed class are scanned as well. Ex: the application isn't built with the processor
+ * but one of its dependencies is.
+ * <br>Set {@code abstraction.verify-search-classes.enabled=false} to skip it. Ex: in production once verified by the build.
+ * // @formatter:on
+ *
  * @author VuDo
  * @since 4/21/2021
  */
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnClass(AbstractSearch.class)
+@ConditionalOnProperty(name = "abstraction.verify-search-classes.enabled", matchIfMissing = true)
 public class VerifySearchClassesAutoConfig {
 
   private final ClassPathScanningCandidateComponentProvider provider;
+  private final BeanFactory beanFactory;
+  private final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
 
-  public VerifySearchClassesAutoConfig() {
+  public VerifySearchClassesAutoConfig(BeanFactory beanFactory) {
     this.provider = new ClassPathScanningCandidateComponentProvider(false);
+    this.provider.addIncludeFilter(new AssignableTypeFilter(AbstractSearch.class));
+    this.beanFactory = beanFactory;
     verify();
   }
 
   @SneakyThrows
   public void verify() {
-    provider.addIncludeFilter(new AssignableTypeFilter(AbstractSearch.class));
-
-// scan in org.example.package
-
-    Set<BeanDefinition> components = provider.findCandidateComponents(getBasePackage());
+    Map<String, List<String>> searchClasses = readIndex();
+    for (String basePackage : getBasePackages()) {
+      if (searchClasses.keySet().stream().noneMatch(name -> name.startsWith(basePackage + "."))) {
+        searchClasses.putAll(scan(basePackage));
+      }
+    }
 
-    if (components.isEmpty()) {
+    if (searchClasses.isEmpty()) {
       return;
     }
 
     Map<String, List<String>> errorClasses = new HashMap<>();
+    searchClasses.forEach((name, fields) -> {
+      if (!fields.isEmpty()) {
+        errorClasses.put(name, fields);
+      }
+    });
+    if (!errorClasses.isEmpty()) {
+      StringBuilder error = new StringBuilder("\n\n\nPlease fix field(s) type to SearchCriteria sub-classes such as StringCriteria in:\n");
+      for (Entry<String, List<String>> entry : errorClasses.entrySet()) {
+        error.append("--- Class ").append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+      }
+      throw new UnsupportedOperationException(error.toString());
+    }
+    // build metadata at startup instead of on the first request
+    for (String name : searchClasses.keySet()) {
+      SearchMetadata.of(ClassUtils.forName(name, classLoader));
+    }
+  }
 
-    for (BeanDefinition component : components) {
-      Class<?> clazz = Class.forName(component.getBeanClassName());
+  /**
+   * @return fields which aren't criteria by search class name from every index on the class path
+   */
+  @SneakyThrows
+  private Map<String, List<String>> readIndex() {
+    Properties index = PropertiesLoaderUtils.loadAllProperties(SearchProcessor.SEARCH_INDEX, classLoader);
+    Map<String, List<String>> searchClasses = new LinkedHashMap<>();
+    for (String name : index.stringPropertyNames()) {
+      searchClasses.put(name, Arrays.asList(StringUtils.commaDelimitedListToStringArray(index.getProperty(name))));
+    }
+    return searchClasses;
+  }
+
+  /**
+   * @return fields which aren't criteria by name of the search classes found in the base package
+   */
+  @SneakyThrows
+  private Map<String, List<String>> scan(String basePackage) {
+    Map<String, List<String>> searchClasses = new LinkedHashMap<>();
+    for (BeanDefinition component : provider.findCandidateComponents(basePackage)) {
+      Class<?> clazz = ClassUtils.forName(component.getBeanClassName(), classLoader);
 
       List<String> fields = new ArrayList<>();
 
@@ -57,21 +116,20 @@ public class VerifySearchClassesAutoConfig {
         }
       }
 
-      if (!fields.isEmpty()) {
-        errorClasses.put(component.getBeanClassName(), fields);
-      }
-    }
-    if (!errorClasses.isEmpty()) {
-      StringBuilder error = new StringBuilder("\n\n\nPlease fix field(s) type to SearchCriteria sub-classes such as StringCriteria in:\n");
-      for (Entry<String, List<String>> entry : errorClasses.entrySet()) {
-        error.append("--- Class ").append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
-      }
-      throw new UnsupportedOperationException(error.toString());
+      searchClasses.put(component.getBeanClassName(), fields);
     }
+    return searchClasses;
   }
 
-  private String getBasePackage() {
-    String basePackage = Objects.requireNonNull(provider.getEnvironment().getProperty("sun.java.command"));
-    return basePackage.substring(0, basePackage.lastIndexOf("."));
+  /**
+   * @return packages of {@code @SpringBootApplication} or {@code @AutoConfigurationPackage} or the package of the main class if there is none
+   */
+  private List<String> getBasePackages() {
+    if (AutoConfigurationPackages.has(beanFactory)) {
+      return AutoConfigurationPackages.get(beanFactory);
+    }
+    String command = provider.getEnvironment().getProperty("sun.java.command");
+    String mainClass = command == null ? "" : command.split(" ")[0];
+    return mainClass.contains(".") ? List.of(mainClass.substring(0, mainClass.lastIndexOf("."))) : List.of();
   }
 }
@@ -0,0 +1,42 @@
+package io.github.voduku.cache;
+
+import java.util.function.Function;
+
+/**
+ * // @formatter:off
+ * Minimal cache SPI used by services. {@link LocalCache} is the in-process default. Adapt any other cache (Caffeine, Redis, ...) by implementing this interface.
+ * <br>Null values are never cached.
+ * // @formatter:on
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author VuDo
+ * @since 1.3.0
+ */
+public interface Cache<K, V> {
+
+  /**
+   * Get the cached value of the key or load and cache it.
+   *
+   * @param key    key
+   * @param loader loader of missing values. A null result is returned as is and not cached.
+   * @return cached or loaded value
+   */
+  V get(K key, Function<? super K, ? extends V> loader);
+
+  /**
+   * @param key key
+   * @return cached value or null
+   */
+  V getIfPresent(K key);
+
+  void put(K key, V value);
+
+  void invalidate(K key);
+
+  void invalidateAll();
+
+  long size();
+
+  CacheStats stats();
+}
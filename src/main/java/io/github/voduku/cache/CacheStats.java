@@ -0,0 +1,25 @@
+package io.github.voduku.cache;
+
+import lombok.Value;
+
+/**
+ * Snapshot of cache counters
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Value
+public class CacheStats {
+
+  long hitCount;
+  long missCount;
+  long evictionCount;
+
+  /**
+   * @return ratio of hits to requests or 1 if nothing has been requested
+   */
+  public double hitRate() {
+    long requests = hitCount + missCount;
+    return requests == 0 ? 1 : (double) hitCount / requests;
+  }
+}
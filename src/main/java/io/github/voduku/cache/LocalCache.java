@@ -0,0 +1,190 @@
+package io.github.voduku.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * // @formatter:off
+ * In-process cache bounded by size with least recently used eviction and an expiry after write. Expired entries are dropped when they are read.
+ * <br>Entries are split into segments by key hash, each with its own lock and least recently used order, so reads of different keys rarely contend.
+ * <br>Loads run outside of the lock so a slow loader doesn't block readers of other keys. Concurrent misses of the same key may load it more than once. A
+ * loaded value isn't cached if its segment was invalidated while loading since it may have been read before the change which invalidated it.
+ * // @formatter:on
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class LocalCache<K, V> implements Cache<K, V> {
+
+  private static final int MAXIMUM_SEGMENTS = 16;
+
+  private final int maximumSize;
+  private final long ttlNanos;
+  private final Segment<K, V>[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * @param maximumSize maximum number of entries
+   * @param ttl         time to live of entries after they are written
+   */
+  @SuppressWarnings("unchecked")
+  public LocalCache(int maximumSize, Duration ttl) {
+    if (maximumSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("Maximum size and time to live must be positive");
+    }
+    this.maximumSize = maximumSize;
+    this.ttlNanos = ttl.toNanos();
+    int count = Math.min(MAXIMUM_SEGMENTS, maximumSize);
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      // spread the remainder so that segments hold maximumSize entries in total
+      segments[i] = new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0), evictions);
+    }
+  }
+
+  @Override
+  public V get(K key, Function<? super K, ? extends V> loader) {
+    V value = getIfPresent(key);
+    if (value != null) {
+      return value;
+    }
+    Segment<K, V> segment = segment(key);
+    long generation = segment.generation();
+    value = loader.apply(key);
+    if (value != null) {
+      segment.putIfGeneration(key, new Entry<>(value, System.nanoTime() + ttlNanos), generation);
+    }
+    return value;
+  }
+
+  @Override
+  public V getIfPresent(K key) {
+    long now = System.nanoTime();
+    Segment<K, V> segment = segment(key);
+    synchronized (segment) {
+      Entry<V> entry = segment.get(key);
+      if (entry != null && now - entry.expiresAt >= 0) {
+        segment.remove(key);
+        evictions.increment();
+        entry = null;
+      }
+      (entry == null ? misses : hits).increment();
+      return entry == null ? null : entry.value;
+    }
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (value == null) {
+      return;
+    }
+    Entry<V> entry = new Entry<>(value, System.nanoTime() + ttlNanos);
+    Segment<K, V> segment = segment(key);
+    synchronized (segment) {
+      segment.put(key, entry);
+    }
+  }
+
+  @Override
+  public void invalidate(K key) {
+    segment(key).invalidate(key);
+  }
+
+  @Override
+  public void invalidateAll() {
+    for (Segment<K, V> segment : segments) {
+      segment.invalidateAll();
+    }
+  }
+
+  @Override
+  public long size() {
+    long size = 0;
+    for (Segment<K, V> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  private Segment<K, V> segment(K key) {
+    int hash = key == null ? 0 : key.hashCode();
+    return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+  }
+
+  /**
+   * Least recently used entries of a range of key hashes. Its monitor guards both the entries and the generation.
+   */
+  private static class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+    private final int maximumSize;
+    private final LongAdder evictions;
+    /**
+     * Number of invalidations of this segment
+     */
+    private long generation;
+
+    private Segment(int maximumSize, LongAdder evictions) {
+      super(16, 0.75f, true);
+      this.maximumSize = maximumSize;
+      this.evictions = evictions;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+      if (size() > maximumSize) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+
+    private synchronized long generation() {
+      return generation;
+    }
+
+    private synchronized void putIfGeneration(K key, Entry<V> entry, long expected) {
+      if (generation == expected) {
+        put(key, entry);
+      }
+    }
+
+    private synchronized void invalidate(K key) {
+      generation++;
+      remove(key);
+    }
+
+    private synchronized void invalidateAll() {
+      generation++;
+      clear();
+    }
+  }
+
+  private static class Entry<V> {
+
+    private final V value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package io.github.voduku.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+
+/**
+ * // @formatter:off
+ * Collapse concurrent calls with the same key into one. The first caller runs the call and every caller arriving before it finishes waits for and shares its
+ * result or exception. Calls arriving afterwards run again so results are never reused once a call is done.
+ * <br>Results are shared between callers so they must not be modified.
+ * // @formatter:on
+ *
+ * @param <K> key type which must implement equals and hashCode
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class SingleFlight<K> {
+
+  private final Map<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+
+  /**
+   * @param key  key of the call
+   * @param call call to run if no call with the same key is in flight
+   * @return result of this call or of the call in flight
+   */
+  @SneakyThrows
+  @SuppressWarnings("unchecked")
+  public <V> V execute(K key, Supplier<V> call) {
+    calls.increment();
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+    if (leader != null) {
+      coalesced.increment();
+      try {
+        return (V) leader.join();
+      } catch (CompletionException e) {
+        throw e.getCause();
+      }
+    }
+    try {
+      V result = call.get();
+      flight.complete(result);
+      return result;
+    } catch (Throwable e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  /**
+   * @return number of calls executed or joined
+   */
+  public long getCalls() {
+    return calls.sum();
+  }
+
+  /**
+   * @return number of calls which joined a call in flight instead of running
+   */
+  public long getCoalesced() {
+    return coalesced.sum();
+  }
+
+  public int getInFlight() {
+    return inFlight.size();
+  }
+}
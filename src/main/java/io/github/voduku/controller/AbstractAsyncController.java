@@ -0,0 +1,255 @@
+package io.github.voduku.controller;
+
+import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.BatchItem;
+import io.github.voduku.model.CursorSlice;
+import io.github.voduku.model.RestResult;
+import io.github.voduku.service.AsyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * // @formatter:off
+ * Same APIs as {@link AbstractController} served asynchronously: servlet threads are released while {@link AsyncService} runs the operations on its executor.
+ * Export is shared with {@link AbstractController} since its rows are already written on an async thread.
+ * <br>Define an {@link Executor} bean named {@value #ASYNC_EXECUTOR} to replace the default executor of every async controller or use
+ * {@link #setAsyncExecutor(Executor)} before the controller is initialized.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Getter
+@Setter
+public class AbstractAsyncController<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, KEY extends Serializable> extends
+    AbstractServiceController<REQUEST, RESPONSE, SEARCH, KEY> {
+
+  public static final String ASYNC_EXECUTOR = "asyncServiceExecutor";
+
+  @Autowired(required = false)
+  protected PlatformTransactionManager transactionManager;
+  @Autowired(required = false)
+  @Qualifier(ASYNC_EXECUTOR)
+  protected Executor asyncExecutor;
+  protected AsyncService<REQUEST, RESPONSE, SEARCH, KEY> asyncService;
+
+  @PostConstruct
+  public void init() {
+    if (asyncService == null) {
+      asyncService = new AsyncService<>(service, asyncExecutor, transactionManager);
+    }
+  }
+
+  @GetMapping
+  @Operation(description = ApiDocs.GET)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "204", description = ApiDocs.NO_CONTENT),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.NOT_FOUND),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<RESPONSE>>> get(@ParameterObject @NotNull @Valid KEY id) {
+    return asyncService.get(id).thenApply(ok(ApiDocs.GET_SUCCESS));
+  }
+
+  @GetMapping(CUSTOM)
+  @Operation(description = ApiDocs.GET_CUSTOM)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "204", description = ApiDocs.NO_CONTENT),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.NOT_FOUND),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<RESPONSE>>> getCustom(@ParameterObject @NotNull @Valid KEY id, @ParameterObject @Valid SEARCH params) {
+    return asyncService.get(id, params).thenApply(ok(ApiDocs.GET_SUCCESS));
+  }
+
+  @GetMapping(SLICE)
+  @Operation(description = ApiDocs.GET_SLICE)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<Slice<RESPONSE>>>> getSlice(@ParameterObject @Valid SEARCH params, @ParameterObject Pageable pageable) {
+    return asyncService.search(params, pageable).thenApply(ok(ApiDocs.GET_SUCCESS));
+  }
+
+  @GetMapping(SLICE + CURSOR)
+  @Operation(description = ApiDocs.GET_SLICE_AFTER)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_CURSOR),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<CursorSlice<RESPONSE>>>> getSliceAfter(@ParameterObject @Valid SEARCH params,
+      @RequestParam(required = false) String cursor, @ParameterObject Pageable pageable) {
+    return asyncService.searchAfter(params, cursor, pageable).thenApply(ok(ApiDocs.GET_SUCCESS));
+  }
+
+  @GetMapping(PAGE)
+  @Operation(description = ApiDocs.GET_PAGE)
+
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<Page<RESPONSE>>>> getPage(@ParameterObject @Valid SEARCH params, @ParameterObject Pageable pageable) {
+    return asyncService.searchPage(params, pageable).thenApply(ok(ApiDocs.GET_SUCCESS));
+  }
+
+  @GetMapping("/exist")
+  @Operation(description = ApiDocs.EXISTS)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.EXISTS_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<Boolean>>> exists(@ParameterObject @NotNull @Valid KEY id) {
+    return asyncService.exists(id).thenApply(ok(ApiDocs.EXISTS_SUCCESS));
+  }
+
+  @PostMapping
+  @Operation(description = ApiDocs.CREATE)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.CREATE_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<RESPONSE>>> create(@ParameterObject @Valid KEY id, @RequestBody @Valid REQUEST request) {
+    return asyncService.create(id, request).thenApply(ok(ApiDocs.CREATE_SUCCESS));
+  }
+
+  @PutMapping
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.UPDATE_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<RESPONSE>>> update(@ParameterObject @NotNull @Valid KEY id, @RequestBody @Valid REQUEST request) {
+    return asyncService.update(id, request).thenApply(ok(ApiDocs.UPDATE_SUCCESS));
+  }
+
+  @DeleteMapping
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.DELETE_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.NOT_FOUND),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<Void>>> delete(@ParameterObject @NotNull @Valid KEY id) {
+    return asyncService.delete(id).thenApply(ignored -> ResponseEntity.ok(RestResult.ok(ApiDocs.DELETE_SUCCESS)));
+  }
+
+  @PostMapping(BATCH)
+  @Operation(description = ApiDocs.CREATE_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.CREATE_ALL_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<List<RestResult<RESPONSE>>>>> createAll(@RequestBody @NotNull List<BatchItem<KEY, REQUEST>> items) {
+    return asyncService.createAll(resolveItems(items)).thenApply(ok(ApiDocs.CREATE_SUCCESS));
+  }
+
+  @PutMapping(BATCH)
+  @Operation(description = ApiDocs.UPDATE_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.UPDATE_ALL_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<List<RestResult<RESPONSE>>>>> updateAll(@RequestBody @NotNull List<BatchItem<KEY, REQUEST>> items) {
+    return asyncService.updateAll(resolveItems(items)).thenApply(ok(ApiDocs.UPDATE_SUCCESS));
+  }
+
+  @DeleteMapping(BATCH)
+  @Operation(description = ApiDocs.DELETE_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.DELETE_ALL_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<List<RestResult<KEY>>>>> deleteAll(@RequestBody @NotNull List<KEY> ids) {
+    return asyncService.deleteAll(ids).thenApply(ok(ApiDocs.DELETE_SUCCESS));
+  }
+
+  @PostMapping(BATCH_GET)
+  @Operation(description = ApiDocs.GET_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public CompletableFuture<ResponseEntity<RestResult<List<RESPONSE>>>> getAll(@RequestBody @NotNull List<KEY> ids, @ParameterObject @Valid SEARCH params) {
+    return asyncService.getAll(ids, params).thenApply(ok(ApiDocs.GET_SUCCESS));
+  }
+
+  private static <T> Function<T, ResponseEntity<RestResult<T>>> ok(String message) {
+    return result -> ResponseEntity.ok(RestResult.ok(result, message));
+  }
+}
@@ -1,19 +1,19 @@
 package io.github.voduku.controller;
 
 import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.BatchItem;
+import io.github.voduku.model.CursorSlice;
 import io.github.voduku.model.RestResult;
 import io.github.voduku.service.Service;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import java.io.Serializable;
+import java.util.List;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
-import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.api.annotations.ParameterObject;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -23,6 +23,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * Provide basic CRUD APIs for any subclasses. Check Swagger for API details
@@ -33,138 +34,191 @@ import org.springframework.web.bind.annotation.RequestBody;
  * @since 1.0.0
  */
 @Slf4j
-@Getter
-@Setter
-public class AbstractController<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, KEY extends Serializable> extends BaseController {
-
-  protected static final String CUSTOM = "/custom";
-
-  protected static final String SLICE = "/slice";
-
-  protected static final String PAGE = "/page";
-
-  @Autowired
-  protected Service<REQUEST, RESPONSE, SEARCH, KEY> service;
+public class AbstractController<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, KEY extends Serializable> extends
+    AbstractServiceController<REQUEST, RESPONSE, SEARCH, KEY> {
 
   @GetMapping
-  @Operation(description = "Get data by ID. All parameters are required")
+  @Operation(description = ApiDocs.GET)
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Get data success"),
-      @ApiResponse(responseCode = "204", description = "Performing get single data request but the data with associated key doesn't exist"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Either your path is wrong or there is no data for the given ID"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "204", description = ApiDocs.NO_CONTENT),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.NOT_FOUND),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<RESPONSE>> get(@ParameterObject @NotNull @Valid KEY id) {
-    return ResponseEntity.ok(RestResult.ok(service.get(id), "Get data success"));
+    return ResponseEntity.ok(RestResult.ok(service.get(id), ApiDocs.GET_SUCCESS));
   }
 
   @GetMapping(CUSTOM)
-  @Operation(description = "Get data by ID. Response body properties are excludable to reduce response foot print")
+  @Operation(description = ApiDocs.GET_CUSTOM)
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Get data success"),
-      @ApiResponse(responseCode = "204", description = "Performing get single data request but the data with associated key doesn't exist"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Either your path is wrong or there is no data for the given ID"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "204", description = ApiDocs.NO_CONTENT),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.NOT_FOUND),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<RESPONSE>> getCustom(@ParameterObject @NotNull @Valid KEY id, @ParameterObject @Valid SEARCH params) {
-    return ResponseEntity.ok(RestResult.ok(service.get(id, params), "Get data success"));
+    return ResponseEntity.ok(RestResult.ok(service.get(id, params), ApiDocs.GET_SUCCESS));
   }
 
   @GetMapping(SLICE)
-  @Operation(description = "Get a slice of data. Individual response body properties are excludable to reduce response foot print.<br>"
-      + "A Slice doesn't knows about the total number of elements and pages available because it doesn't trigger a count query to calculate the overall number.<br>"
-      + "It knows only about whether a next Slice is available, which might be sufficient when walking through a larger result set.<br>"
-      + "See details at <a href='https://docs.spring.io/spring-data/jpa/docs/current/reference/html/#repositories.special-parameters'>Spring Documentation Reference</a>.<br>"
-      + "<b>NOTES:</b> You can also exclude all metadata properties by setting <b><i>excludeMetadata</i></b> to <b><i>true</i></b> or add <b><i>?excludeMetadata=1</i></b> in HTML query param(s)")
+  @Operation(description = ApiDocs.GET_SLICE)
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Get data success"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Won't happen unless your path is wrong"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<Slice<RESPONSE>>> getSlice(@ParameterObject @Valid SEARCH params, @ParameterObject Pageable pageable) {
-    return ResponseEntity.ok(RestResult.ok(service.search(params, pageable), "Get data success"));
+    return ResponseEntity.ok(RestResult.ok(service.search(params, pageable), ApiDocs.GET_SUCCESS));
+  }
+
+  @GetMapping(SLICE + CURSOR)
+  @Operation(description = ApiDocs.GET_SLICE_AFTER)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_CURSOR),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public ResponseEntity<RestResult<CursorSlice<RESPONSE>>> getSliceAfter(@ParameterObject @Valid SEARCH params, @RequestParam(required = false) String cursor,
+      @ParameterObject Pageable pageable) {
+    return ResponseEntity.ok(RestResult.ok(service.searchAfter(params, cursor, pageable), ApiDocs.GET_SUCCESS));
   }
 
   @GetMapping(PAGE)
-  @Operation(description = "Get a slice of data. Individual response body properties are excludable to reduce response foot print.<br>"
-      + "A Page knows about the total number of elements and pages available.<br>"
-      + "It does so by the infrastructure triggering a count query to calculate the overall number.<br>"
-      + "See details at <a href='https://docs.spring.io/spring-data/jpa/docs/current/reference/html/#repositories.special-parameters'>Spring Documentation Reference</a>.<br>"
-      + "<b>NOTES:</b> You can also exclude all metadata properties by setting <b><i>excludeMetadata</i></b> to <b><i>true</i></b> or add <b><i>?excludeMetadata=1</i></b> in HTML query param(s)")
+  @Operation(description = ApiDocs.GET_PAGE)
 
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Get data success"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Won't happen unless your path is wrong"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<Page<RESPONSE>>> getPage(@ParameterObject @Valid SEARCH params, @ParameterObject Pageable pageable) {
-    return ResponseEntity.ok(RestResult.ok(service.searchPage(params, pageable), "Get data success"));
+    return ResponseEntity.ok(RestResult.ok(service.searchPage(params, pageable), ApiDocs.GET_SUCCESS));
   }
 
   @GetMapping("/exist")
-  @Operation(description = "Check if data exists")
+  @Operation(description = ApiDocs.EXISTS)
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Check data exists success"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Won't happen unless your path is wrong"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.EXISTS_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<Boolean>> exists(@ParameterObject @NotNull @Valid KEY id) {
-    return ResponseEntity.ok(RestResult.ok(service.exists(id), "Check data exists success"));
+    return ResponseEntity.ok(RestResult.ok(service.exists(id), ApiDocs.EXISTS_SUCCESS));
   }
 
   @PostMapping
-  @Operation(description = "Create data")
+  @Operation(description = ApiDocs.CREATE)
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Create data success"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Won't happen unless your path is wrong"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.CREATE_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<RESPONSE>> create(@ParameterObject @Valid KEY id, @RequestBody @Valid REQUEST request) {
-    return ResponseEntity.ok(RestResult.ok(service.create(id, request), "Create data success"));
+    return ResponseEntity.ok(RestResult.ok(service.create(id, request), ApiDocs.CREATE_SUCCESS));
   }
 
   @PutMapping
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Update data success"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Won't happen unless your path is wrong"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.UPDATE_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<RESPONSE>> update(@ParameterObject @NotNull @Valid KEY id, @RequestBody @Valid REQUEST request) {
-    return ResponseEntity.ok(RestResult.ok(service.update(id, request), "Update data success"));
+    return ResponseEntity.ok(RestResult.ok(service.update(id, request), ApiDocs.UPDATE_SUCCESS));
   }
 
   @DeleteMapping
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Delete data success"),
-      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
-      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
-      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
-      @ApiResponse(responseCode = "404", description = "Either your path is wrong or there is no data for the given ID"),
-      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+      @ApiResponse(responseCode = "200", description = ApiDocs.DELETE_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.NOT_FOUND),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
   })
   public ResponseEntity<RestResult<Void>> delete(@ParameterObject @NotNull @Valid KEY id) {
     service.delete(id);
-    return ResponseEntity.ok(RestResult.ok("Delete data success"));
+    return ResponseEntity.ok(RestResult.ok(ApiDocs.DELETE_SUCCESS));
+  }
+
+  @PostMapping(BATCH)
+  @Operation(description = ApiDocs.CREATE_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.CREATE_ALL_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public ResponseEntity<RestResult<List<RestResult<RESPONSE>>>> createAll(@RequestBody @NotNull List<BatchItem<KEY, REQUEST>> items) {
+    return ResponseEntity.ok(RestResult.ok(service.createAll(resolveItems(items)), ApiDocs.CREATE_SUCCESS));
+  }
+
+  @PutMapping(BATCH)
+  @Operation(description = ApiDocs.UPDATE_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.UPDATE_ALL_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public ResponseEntity<RestResult<List<RestResult<RESPONSE>>>> updateAll(@RequestBody @NotNull List<BatchItem<KEY, REQUEST>> items) {
+    return ResponseEntity.ok(RestResult.ok(service.updateAll(resolveItems(items)), ApiDocs.UPDATE_SUCCESS));
+  }
+
+  @DeleteMapping(BATCH)
+  @Operation(description = ApiDocs.DELETE_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.DELETE_ALL_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public ResponseEntity<RestResult<List<RestResult<KEY>>>> deleteAll(@RequestBody @NotNull List<KEY> ids) {
+    return ResponseEntity.ok(RestResult.ok(service.deleteAll(ids), ApiDocs.DELETE_SUCCESS));
+  }
+
+  @PostMapping(BATCH_GET)
+  @Operation(description = ApiDocs.GET_ALL)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.GET_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_REQUEST),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public ResponseEntity<RestResult<List<RESPONSE>>> getAll(@RequestBody @NotNull List<KEY> ids, @ParameterObject @Valid SEARCH params) {
+    return ResponseEntity.ok(RestResult.ok(service.getAll(ids, params), ApiDocs.GET_SUCCESS));
   }
 }
@@ -0,0 +1,97 @@
+package io.github.voduku.controller;
+
+import io.github.voduku.concurrent.TaskExecutors;
+import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.reactive.Fluxes;
+import io.github.voduku.service.Service;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.PostConstruct;
+import javax.validation.Valid;
+import lombok.Getter;
+import lombok.Setter;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import reactor.core.publisher.Flux;
+
+/**
+ * // @formatter:off
+ * Serve searches as a reactive stream of newline delimited json so clients can process rows before the query completes. Rows are read from the database only
+ * as fast as clients request them.
+ * <br>Reactor is an optional dependency. Add {@code io.projectreactor:reactor-core} to use this controller. It can be used along with
+ * {@link AbstractController} on a different path.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Getter
+@Setter
+public class AbstractReactiveController<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, KEY extends Serializable> extends BaseController {
+
+  public static final String NDJSON = "application/x-ndjson";
+
+  protected static final String STREAM = "/stream";
+
+  @Autowired
+  protected Service<REQUEST, RESPONSE, SEARCH, KEY> service;
+  @Autowired(required = false)
+  protected PlatformTransactionManager transactionManager;
+  /**
+   * Executor reading streams. Every open stream holds one of its threads. Defaults to the {@link AbstractAsyncController#ASYNC_EXECUTOR} bean or an executor
+   * from {@link TaskExecutors} shared by every reactive controller.
+   */
+  @Autowired(required = false)
+  @Qualifier(AbstractAsyncController.ASYNC_EXECUTOR)
+  protected Executor streamExecutor;
+  protected TransactionTemplate streamTransaction;
+  /**
+   * // @formatter:off
+   * JDBC fetch size of streams which bounds the rows buffered per open stream. It doesn't follow the demand of subscribers since Spring MVC requests one row
+   * at a time, which would cost a round trip per row.
+   * // @formatter:on
+   */
+  protected int streamFetchSize = 100;
+
+  @PostConstruct
+  public void init() {
+    if (streamExecutor == null) {
+      streamExecutor = DefaultExecutor.INSTANCE;
+    }
+    if (streamTransaction == null && transactionManager != null) {
+      streamTransaction = new TransactionTemplate(transactionManager);
+      streamTransaction.setReadOnly(true);
+    }
+  }
+
+  @GetMapping(value = STREAM, produces = NDJSON)
+  @Operation(description = "Stream all data matching the filters as newline delimited json. Individual response body properties are excludable to reduce response foot print.<br>"
+      + "Rows are sent as soon as they are read and only read as fast as the client consumes them.<br>"
+      + "<b>NOTES:</b> Errors after the first rows are sent can't change the response status. The stream is then cut short.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Get data success"),
+      @ApiResponse(responseCode = "400", description = "Bad request. Check errors return in property 'messages'"),
+      @ApiResponse(responseCode = "401", description = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data"),
+      @ApiResponse(responseCode = "403", description = "Either request needs bearer or profile doesn't have permission"),
+      @ApiResponse(responseCode = "404", description = "Won't happen unless your path is wrong"),
+      @ApiResponse(responseCode = "500", description = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.")
+  })
+  public Flux<RESPONSE> stream(@ParameterObject @Valid SEARCH params, @ParameterObject Sort sort) {
+    return Fluxes.fromStream(() -> service.stream(params, sort, streamFetchSize), new DelegatingSecurityContextExecutor(streamExecutor), streamTransaction);
+  }
+
+  private static final class DefaultExecutor {
+
+    private static final ExecutorService INSTANCE = TaskExecutors.newTaskExecutor("reactive-stream", 200);
+  }
+}
@@ -0,0 +1,112 @@
+package io.github.voduku.controller;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.BatchItem;
+import io.github.voduku.service.Service;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.Valid;
+import lombok.Getter;
+import lombok.Setter;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * // @formatter:off
+ * Paths, state and APIs shared by {@link AbstractController} and {@link AbstractAsyncController}. The export API is served the same way by both since its rows
+ * are already written by Spring MVC on an async thread.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Getter
+@Setter
+public abstract class AbstractServiceController<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, KEY extends Serializable> extends BaseController {
+
+  protected static final String CUSTOM = "/custom";
+
+  protected static final String SLICE = "/slice";
+
+  protected static final String PAGE = "/page";
+
+  protected static final String CURSOR = "/cursor";
+
+  protected static final String EXPORT = "/export";
+
+  protected static final String BATCH = "/batch";
+
+  protected static final String BATCH_GET = "/batch-get";
+
+  @Autowired
+  protected Service<REQUEST, RESPONSE, SEARCH, KEY> service;
+  @Autowired(required = false)
+  protected ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  /**
+   * Number of rows written between flushes of {@link #export(AbstractSearch, Sort, String)}
+   */
+  protected int exportFlushSize = 500;
+
+  @GetMapping(EXPORT)
+  @Operation(description = ApiDocs.EXPORT)
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = ApiDocs.EXPORT_SUCCESS),
+      @ApiResponse(responseCode = "400", description = ApiDocs.BAD_FORMAT),
+      @ApiResponse(responseCode = "401", description = ApiDocs.UNAUTHORIZED),
+      @ApiResponse(responseCode = "403", description = ApiDocs.FORBIDDEN),
+      @ApiResponse(responseCode = "404", description = ApiDocs.WRONG_PATH),
+      @ApiResponse(responseCode = "500", description = ApiDocs.SERVER_ERROR)
+  })
+  public ResponseEntity<StreamingResponseBody> export(@ParameterObject @Valid SEARCH params, @ParameterObject Sort sort,
+      @RequestParam(defaultValue = "ndjson") String format) {
+    ExportWriter.Format exportFormat = ExportWriter.Format.of(format);
+    StreamingResponseBody body = out -> {
+      try (ExportWriter<RESPONSE> writer = ExportWriter.create(exportFormat, out, params.getIncludes(), excludes(params), objectMapper, exportFlushSize)) {
+        service.export(params, sort, writer::write);
+      }
+    };
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=export." + exportFormat.getExtension())
+        .body(body);
+  }
+
+  /**
+   * @return excludable fields of the search which aren't included
+   */
+  protected Set<String> excludes(SEARCH params) {
+    Set<String> includes = params.getIncludes();
+    return Arrays.stream(params.getExcludables()).map(Enum::name).filter(field -> !includes.contains(field)).collect(Collectors.toSet());
+  }
+
+  /**
+   * Spring only resolves type variables at the top level of request bodies so keys and requests of batch items are bound as maps. Convert them into their
+   * actual types of this controller.
+   */
+  @SuppressWarnings("unchecked")
+  protected List<BatchItem<KEY, REQUEST>> resolveItems(List<BatchItem<KEY, REQUEST>> items) {
+    ResolvableType controllerType = ResolvableType.forClass(getClass()).as(AbstractServiceController.class);
+    TypeFactory typeFactory = objectMapper.getTypeFactory();
+    JavaType requestType = typeFactory.constructType(controllerType.getGeneric(0).resolve());
+    JavaType keyType = typeFactory.constructType(controllerType.getGeneric(3).resolve());
+    return items.stream()
+        .map(item -> new BatchItem<>((KEY) objectMapper.convertValue(item.getKey(), keyType), (REQUEST) objectMapper.convertValue(item.getRequest(), requestType)))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.voduku.controller;
+
+/**
+ * // @formatter:off
+ * Descriptions of the APIs shared by {@link AbstractController} and {@link AbstractAsyncController}. Success descriptions are also the messages of their
+ * {@link io.github.voduku.model.RestResult}.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public final class ApiDocs {
+
+  // @formatter:off
+  public static final String GET = "Get data by ID. All parameters are required";
+  public static final String GET_CUSTOM = "Get data by ID. Response body properties are excludable to reduce response foot print";
+  public static final String GET_SLICE = "Get a slice of data. Individual response body properties are excludable to reduce response foot print.<br>"
+      + "A Slice doesn't knows about the total number of elements and pages available because it doesn't trigger a count query to calculate the overall number.<br>"
+      + "It knows only about whether a next Slice is available, which might be sufficient when walking through a larger result set.<br>"
+      + "See details at <a href='https://docs.spring.io/spring-data/jpa/docs/current/reference/html/#repositories.special-parameters'>Spring Documentation Reference</a>.<br>"
+      + "<b>NOTES:</b> You can also exclude all metadata properties by setting <b><i>excludeMetadata</i></b> to <b><i>true</i></b> or add <b><i>?excludeMetadata=1</i></b> in HTML query param(s)";
+  public static final String GET_SLICE_AFTER = "Get a slice of data using keyset pagination. Individual response body properties are excludable to reduce response foot print.<br>"
+      + "Instead of a page number, send back <b><i>nextCursor</i></b> of the previous slice as <b><i>cursor</i></b> to get the next slice. Omit it to get the first slice.<br>"
+      + "Every slice costs the same as the first one so this is the way to walk through a large result set. <b><i>page</i></b> is ignored.<br>"
+      + "<b>NOTES:</b> Keep the same filters and sort while walking through slices. Sort properties should not be nullable.";
+  public static final String GET_PAGE = "Get a slice of data. Individual response body properties are excludable to reduce response foot print.<br>"
+      + "A Page knows about the total number of elements and pages available.<br>"
+      + "It does so by the infrastructure triggering a count query to calculate the overall number.<br>"
+      + "See details at <a href='https://docs.spring.io/spring-data/jpa/docs/current/reference/html/#repositories.special-parameters'>Spring Documentation Reference</a>.<br>"
+      + "<b>NOTES:</b> You can also exclude all metadata properties by setting <b><i>excludeMetadata</i></b> to <b><i>true</i></b> or add <b><i>?excludeMetadata=1</i></b> in HTML query param(s)";
+  public static final String EXPORT = "Export all data matching the filters in a single response. Rows are written as soon as they are read so any number of rows can be exported.<br>"
+      + "<b><i>format</i></b> is either <b><i>ndjson</i></b> (one json object per line) or <b><i>csv</i></b>. Individual properties are excludable to reduce the size of the export.<br>"
+      + "<b>NOTES:</b> Errors after the first rows are written can't change the response status. The export is then cut short.";
+  public static final String EXISTS = "Check if data exists";
+  public static final String CREATE = "Create data";
+  public static final String CREATE_ALL = "Create multiple data in a single request. Every item has its own result in the same order as the request.<br>"
+      + "<b>NOTES:</b> Items with invalid data are reported as errors and skipped. Any other error fails the whole batch.";
+  public static final String UPDATE_ALL = "Update multiple data in a single request. Every item has its own result in the same order as the request.<br>"
+      + "<b>NOTES:</b> Items with invalid data or unknown ID are reported as errors and skipped. Any other error fails the whole batch.";
+  public static final String DELETE_ALL = "Delete multiple data by IDs in a single request. Every ID has its own result in the same order as the request.";
+  public static final String GET_ALL = "Get multiple data by IDs in a single request. Individual response body properties are excludable to reduce response foot print.<br>"
+      + "<b>NOTES:</b> Data are returned in the same order as the IDs. IDs without data are skipped.";
+
+  public static final String GET_SUCCESS = "Get data success";
+  public static final String EXPORT_SUCCESS = "Export data success";
+  public static final String EXISTS_SUCCESS = "Check data exists success";
+  public static final String CREATE_SUCCESS = "Create data success";
+  public static final String UPDATE_SUCCESS = "Update data success";
+  public static final String DELETE_SUCCESS = "Delete data success";
+  public static final String CREATE_ALL_SUCCESS = "Create data success. Check the result of every item";
+  public static final String UPDATE_ALL_SUCCESS = "Update data success. Check the result of every item";
+  public static final String DELETE_ALL_SUCCESS = "Delete data success. Check the result of every ID";
+  public static final String NO_CONTENT = "Performing get single data request but the data with associated key doesn't exist";
+  public static final String BAD_REQUEST = "Bad request. Check errors return in property 'messages'";
+  public static final String BAD_CURSOR = "Bad request. Check errors return in property 'messages'. Ex: cursor doesn't match the sort";
+  public static final String BAD_FORMAT = "Bad request. Check errors return in property 'messages'. Ex: unsupported format";
+  public static final String UNAUTHORIZED = "Either request needs bearer or profile doesn't have permission or profile doesn't own the data";
+  public static final String FORBIDDEN = "Either request needs bearer or profile doesn't have permission";
+  public static final String WRONG_PATH = "Won't happen unless your path is wrong";
+  public static final String NOT_FOUND = "Either your path is wrong or there is no data for the given ID";
+  public static final String SERVER_ERROR = "This happens when there is something wrong with the server. Ex: Database connection failed, Micro-services communication failed, etc.";
+  // @formatter:on
+
+  private ApiDocs() {
+  }
+}
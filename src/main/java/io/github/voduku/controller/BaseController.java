@@ -6,6 +6,7 @@ import java.util.Objects;
 import javax.persistence.NoResultException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -20,10 +21,12 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @Slf4j
 public abstract class BaseController {
 
-  @ExceptionHandler({IllegalArgumentException.class})
+  @ExceptionHandler({IllegalArgumentException.class, InvalidDataAccessApiUsageException.class})
   public ResponseEntity<RestResult<Void>> handleInvalidRequestException(Exception exception) {
     log.error(exception.getMessage(), exception);
-    return ResponseEntity.badRequest().body(RestResult.error(exception.getLocalizedMessage()));
+    String errorMessage = exception instanceof InvalidDataAccessApiUsageException && exception.getCause() != null ?
+        exception.getCause().getLocalizedMessage() : exception.getLocalizedMessage();
+    return ResponseEntity.badRequest().body(RestResult.error(errorMessage));
   }
 
   @ExceptionHandler({MethodArgumentNotValidException.class})
@@ -0,0 +1,219 @@
+package io.github.voduku.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.beans.PropertyDescriptor;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.http.MediaType;
+
+/**
+ * // @formatter:off
+ * Write rows of an export one by one and flush every {@link #flushSize} rows. Writes block while the client is slower than the database so rows are read only
+ * as fast as they are sent.
+ * // @formatter:on
+ *
+ * @param <T> row type
+ * @author VuDo
+ * @since 1.3.0
+ */
+public abstract class ExportWriter<T> implements Closeable {
+
+  private final int flushSize;
+  private int unflushed;
+
+  protected ExportWriter(int flushSize) {
+    this.flushSize = flushSize;
+  }
+
+  /**
+   * @param format    output format
+   * @param out       output stream which is left open on close
+   * @param includes  included fields of the search which come first if the format has columns. Fields which the rows don't have are skipped.
+   * @param excludes  excluded fields of the search. Other row properties are written after the included ones. Ex: properties renamed by the mapper.
+   * @param mapper    mapper writing json
+   * @param flushSize number of rows to write between flushes
+   * @return a new writer
+   */
+  public static <T> ExportWriter<T> create(Format format, OutputStream out, Collection<String> includes, Collection<String> excludes, ObjectMapper mapper,
+      int flushSize) throws IOException {
+    return format == Format.CSV ? new CsvWriter<>(out, includes, excludes, flushSize) : new NdjsonWriter<>(out, mapper, flushSize);
+  }
+
+  /**
+   * Write a row. {@link IOException} is rethrown as {@link UncheckedIOException} so this can be used as a {@link java.util.function.Consumer}.
+   *
+   * @param row row to write
+   */
+  public void write(T row) {
+    try {
+      writeRow(row);
+      if (++unflushed >= flushSize) {
+        flush();
+        unflushed = 0;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  protected abstract void writeRow(T row) throws IOException;
+
+  protected abstract void flush() throws IOException;
+
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+
+  @Getter
+  public enum Format {
+    NDJSON(new MediaType("application", "x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    Format(MediaType mediaType, String extension) {
+      this.mediaType = mediaType;
+      this.extension = extension;
+    }
+
+    public static Format of(String format) {
+      try {
+        return valueOf(format.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Unsupported export format: " + format);
+      }
+    }
+  }
+
+  private static class NdjsonWriter<T> extends ExportWriter<T> {
+
+    private final ObjectMapper mapper;
+    private final JsonGenerator generator;
+
+    private NdjsonWriter(OutputStream out, ObjectMapper mapper, int flushSize) throws IOException {
+      super(flushSize);
+      this.mapper = mapper;
+      this.generator = mapper.getFactory().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    protected void writeRow(T row) throws IOException {
+      mapper.writeValue(generator, row);
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    protected void flush() throws IOException {
+      generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      generator.close();
+    }
+  }
+
+  private static class CsvWriter<T> extends ExportWriter<T> {
+
+    private static final String CLASS = "class";
+
+    private final Writer writer;
+    private final Collection<String> includes;
+    private final Collection<String> excludes;
+    private List<String> columns;
+
+    private CsvWriter(OutputStream out, Collection<String> includes, Collection<String> excludes, int flushSize) {
+      super(flushSize);
+      this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+      this.includes = includes;
+      this.excludes = excludes;
+    }
+
+    @Override
+    protected void writeRow(T row) throws IOException {
+      BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+      if (columns == null) {
+        columns = columns(wrapper);
+        writeLine(new ArrayList<>(columns));
+      }
+      List<Object> values = new ArrayList<>(columns.size());
+      for (String column : columns) {
+        values.add(wrapper.getPropertyValue(column));
+      }
+      writeLine(values);
+    }
+
+    /**
+     * @return included fields the rows have followed by the other row properties which aren't excluded
+     */
+    private List<String> columns(BeanWrapper wrapper) {
+      Set<String> columns = new LinkedHashSet<>();
+      for (String include : includes) {
+        if (wrapper.isReadableProperty(include)) {
+          columns.add(include);
+        }
+      }
+      for (PropertyDescriptor property : wrapper.getPropertyDescriptors()) {
+        String name = property.getName();
+        if (property.getReadMethod() != null && !CLASS.equals(name) && !excludes.contains(name)) {
+          columns.add(name);
+        }
+      }
+      return new ArrayList<>(columns);
+    }
+
+    private void writeLine(List<?> values) throws IOException {
+      for (int i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writer.write(escape(values.get(i)));
+      }
+      writer.write("\r\n");
+    }
+
+    private static String escape(Object value) {
+      if (value == null) {
+        return "";
+      }
+      String text = value instanceof Date ? ((Date) value).toInstant().toString() : String.valueOf(value);
+      if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+        return text;
+      }
+      return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    protected void flush() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (columns == null) {
+        writeLine(new ArrayList<>(includes));
+      }
+      flush();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package io.github.voduku.metrics;
+
+import io.github.voduku.repository.Repository;
+import io.github.voduku.service.AbstractService;
+import io.github.voduku.service.Service;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * // @formatter:off
+ * Add {@link OperationMetrics} to every {@link Repository} and {@link AbstractService} bean. Advisors are added in front of existing proxies such as
+ * repository and transaction proxies so timings include transactions. Other beans are proxied by class.
+ * <br>Repository operations are the methods of repository interfaces including query methods. Service operations are the methods of {@link Service}.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class MetricsPostProcessor implements BeanPostProcessor, BeanClassLoaderAware, Ordered {
+
+  private static final Set<String> REPOSITORY_EXCLUDES = Set.of("getEntityClass", "getKey");
+  private static final Set<String> SERVICE_OPERATIONS = Arrays.stream(Service.class.getMethods()).map(Method::getName)
+      .filter(name -> !name.equals("isAutoGeneratedKey"))
+      .collect(Collectors.toSet());
+
+  private final Supplier<MeterRegistry> registry;
+  private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+  /**
+   * @param registry registry resolved when the first operation is recorded
+   */
+  public MetricsPostProcessor(Supplier<MeterRegistry> registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    Object target = AopProxyUtils.getSingletonTarget(bean);
+    target = target == null ? bean : target;
+    Advisor advisor;
+    if (target instanceof Repository) {
+      String entity = ((Repository<?, ?>) target).getEntityClass().getSimpleName();
+      advisor = new DefaultPointcutAdvisor(new OperationPointcut(true), new OperationMetrics(registry, OperationMetrics.REPOSITORY, entity));
+    } else if (target instanceof AbstractService) {
+      Repository<?, ?> repo = ((AbstractService<?, ?, ?, ?, ?>) target).getRepo();
+      String entity = repo == null ? ClassUtils.getUserClass(target).getSimpleName() : repo.getEntityClass().getSimpleName();
+      advisor = new DefaultPointcutAdvisor(new OperationPointcut(false), new OperationMetrics(registry, OperationMetrics.SERVICE, entity));
+    } else {
+      return bean;
+    }
+    if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+      ((Advised) bean).addAdvisor(0, advisor);
+      return bean;
+    }
+    ProxyFactory proxyFactory = new ProxyFactory(bean);
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvisor(advisor);
+    return proxyFactory.getProxy(classLoader);
+  }
+
+  @Override
+  public void setBeanClassLoader(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * Run after other post processors so proxies created by them are reused
+   */
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  private static class OperationPointcut extends StaticMethodMatcherPointcut {
+
+    private final boolean repository;
+
+    private OperationPointcut(boolean repository) {
+      this.repository = repository;
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+      if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers()) || ReflectionUtils.isObjectMethod(method)) {
+        return false;
+      }
+      if (repository) {
+        return method.getDeclaringClass().isInterface() && !REPOSITORY_EXCLUDES.contains(method.getName());
+      }
+      return SERVICE_OPERATIONS.contains(method.getName());
+    }
+  }
+}
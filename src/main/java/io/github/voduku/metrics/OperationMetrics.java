@@ -0,0 +1,164 @@
+package io.github.voduku.metrics;
+
+import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.CursorSlice;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * // @formatter:off
+ * Time operations of a repository or a service and record the sizes of their results. Meters are named after the layer ({@link #REPOSITORY} or
+ * {@link #SERVICE}):
+ * <br>- {@code abstraction.<layer>}: timer tagged by {@code entity}, {@code operation}, {@code projection} (full, projected or none), {@code page}
+ * (page, slice, cursor, list, stream or none) and {@code exception}.
+ * <br>- {@code abstraction.<layer>.results}: histogram of the number of entities or responses returned.
+ * <br>- {@code abstraction.<layer>.rows}: histogram of numbers returned such as rows updated, rows deleted or counts.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class OperationMetrics implements MethodInterceptor {
+
+  public static final String REPOSITORY = "repository";
+  public static final String SERVICE = "service";
+  private static final String PREFIX = "abstraction.";
+  private static final String NONE = "none";
+
+  private final Supplier<MeterRegistry> registry;
+  private final String name;
+  private final Tags tags;
+  private final Map<List<Object>, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<Method, DistributionSummary> results = new ConcurrentHashMap<>();
+  private final Map<Method, DistributionSummary> rows = new ConcurrentHashMap<>();
+
+  /**
+   * @param registry registry resolved on first use
+   * @param layer    {@link #REPOSITORY} or {@link #SERVICE}
+   * @param entity   entity tag
+   */
+  public OperationMetrics(Supplier<MeterRegistry> registry, String layer, String entity) {
+    this.registry = registry;
+    this.name = PREFIX + layer;
+    this.tags = Tags.of("entity", entity);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Method method = invocation.getMethod();
+    long start = System.nanoTime();
+    Throwable error = null;
+    try {
+      Object result = invocation.proceed();
+      record(method, result);
+      return result;
+    } catch (Throwable e) {
+      error = e;
+      throw e;
+    } finally {
+      Class<?> exception = error == null ? null : error.getClass();
+      timers.computeIfAbsent(Arrays.asList(method, projection(invocation.getArguments()), exception), this::timer)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void record(Method method, Object result) {
+    if (result instanceof Number) {
+      rows.computeIfAbsent(method, key -> summary(key, ".rows")).record(((Number) result).doubleValue());
+      return;
+    }
+    long size = result == null && method.getReturnType() != void.class ? 0 : size(result);
+    if (size >= 0) {
+      results.computeIfAbsent(method, key -> summary(key, ".results")).record(size);
+    }
+  }
+
+  private Timer timer(List<Object> key) {
+    Method method = (Method) key.get(0);
+    Class<?> exception = (Class<?>) key.get(2);
+    return Timer.builder(name)
+        .tags(tags)
+        .tag("operation", method.getName())
+        .tag("projection", (String) key.get(1))
+        .tag("page", page(method.getReturnType()))
+        .tag("exception", exception == null ? NONE : exception.getSimpleName())
+        .register(registry.get());
+  }
+
+  private DistributionSummary summary(Method method, String suffix) {
+    return DistributionSummary.builder(name + suffix)
+        .tags(tags)
+        .tag("operation", method.getName())
+        .tag("page", page(method.getReturnType()))
+        .publishPercentileHistogram()
+        .register(registry.get());
+  }
+
+  private static String projection(Object[] arguments) {
+    for (Object argument : arguments) {
+      if (argument instanceof AbstractSearch) {
+        return CollectionUtils.isEmpty(((AbstractSearch<?>) argument).getExcludes()) ? "full" : "projected";
+      }
+    }
+    return NONE;
+  }
+
+  private static String page(Class<?> type) {
+    if (CursorSlice.class.isAssignableFrom(type)) {
+      return "cursor";
+    }
+    if (Page.class.isAssignableFrom(type)) {
+      return "page";
+    }
+    if (Slice.class.isAssignableFrom(type)) {
+      return "slice";
+    }
+    if (Stream.class.isAssignableFrom(type)) {
+      return "stream";
+    }
+    if (Iterable.class.isAssignableFrom(type)) {
+      return "list";
+    }
+    return NONE;
+  }
+
+  /**
+   * @return number of items of the result or -1 if it has no size. Ex: nothing is returned or a lazy stream.
+   */
+  private static long size(Object result) {
+    if (result instanceof Slice) {
+      return ((Slice<?>) result).getNumberOfElements();
+    }
+    if (result instanceof CursorSlice) {
+      List<?> content = ((CursorSlice<?>) result).getContent();
+      return content == null ? 0 : content.size();
+    }
+    if (result instanceof Collection) {
+      return ((Collection<?>) result).size();
+    }
+    if (result instanceof Optional) {
+      return ((Optional<?>) result).isPresent() ? 1 : 0;
+    }
+    if (result instanceof Stream || result instanceof Boolean) {
+      return -1;
+    }
+    return result == null ? -1 : 1;
+  }
+}
@@ -1,20 +1,18 @@
 package io.github.voduku.model;
 
-import static java.util.function.Predicate.not;
-
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.voduku.model.criteria.CriteriaHandler;
 import io.swagger.v3.oas.annotations.Parameter;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Setter;
 import lombok.experimental.FieldNameConstants;
-import org.springframework.core.GenericTypeResolver;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -52,12 +50,12 @@ public abstract class AbstractSearch<T extends Enum<T>> implements Search {
   private boolean configured = false;
 
   /**
-   * Although this is slower than directly calling values(), performance is acceptable.
+   * Excludable fields are read from {@link SearchMetadata} resolved once per class so no reflection happens per instance. {@link #includes} is created on
+   * first use.
    */
   @SuppressWarnings("unchecked")
   public AbstractSearch() {
-    this.excludables = ((Class<T>) Objects.requireNonNull(GenericTypeResolver.resolveTypeArguments(getClass(), AbstractSearch.class))[0]).getEnumConstants();
-    this.includes = Arrays.stream(excludables).map(Enum::name).collect(Collectors.toCollection(LinkedHashSet::new));
+    this.excludables = (Enum<T>[]) SearchMetadata.of(getClass()).getExcludables();
   }
 
   /**
@@ -67,25 +65,71 @@ public abstract class AbstractSearch<T extends Enum<T>> implements Search {
    */
   public AbstractSearch(Enum<T>[] excludables) {
     this.excludables = excludables;
-    this.includes = Arrays.stream(excludables).map(Enum::name).collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /**
+   * Criteria which are set, read with the {@link CriteriaAccessor} of {@link SearchMetadata}. It is generated at compile time when the
+   * {@link io.github.voduku.processor.SearchProcessor} runs, otherwise criteria fields are read with cached reflection.
+   *
+   * @return criteria by field name
+   */
+  @Override
+  public Map<String, CriteriaHandler<?>> getCriteria() {
+    return SearchMetadata.of(getClass()).criteria(this);
+  }
+
+  /**
+   * Visit criteria with the {@link CriteriaAccessor} of {@link SearchMetadata} or {@link #getCriteria()} if a sub-class implements it.
+   */
+  @Override
+  public void forEachCriteria(BiConsumer<String, CriteriaHandler<?>> action) {
+    SearchMetadata metadata = SearchMetadata.of(getClass());
+    if (metadata.isCustomCriteria()) {
+      Search.super.forEachCriteria(action);
+    } else {
+      metadata.forEachCriteria(this, action);
+    }
+  }
+
+  /**
+   * @return included fields which are every excludable field until includes or excludes are set
+   */
+  public LinkedHashSet<String> getIncludes() {
+    if (includes == null && excludables != null) {
+      includes = new LinkedHashSet<>(defaultIncludes());
+    }
+    return includes;
+  }
+
+  /**
+   * @return projection of {@link #getIncludes()} or null if it includes fields which aren't fields of the entity
+   */
+  @JsonIgnore
+  public Projection getProjection() {
+    SearchMetadata metadata = SearchMetadata.of(getClass());
+    if (includes == null && excludables == metadata.getExcludables()) {
+      return metadata.getDefaultProjection();
+    }
+    return Projection.of(metadata, getIncludes());
   }
 
   public void setIncludes(LinkedHashSet<String> includes) {
     if (configured || CollectionUtils.isEmpty(includes)) {
       return;
     }
+    SearchMetadata metadata = SearchMetadata.of(getClass());
+    BitSet excludes = excludableBits(metadata);
+    excludes.andNot(metadata.bits(includes));
     this.includes = includes;
-    LinkedHashSet<String> excludes = new LinkedHashSet<>();
-    for (Enum<T> field : excludables) {
-      if (!includes.contains(field.name())) {
-        excludes.add(field.name());
-      }
-    }
     if (excludeMetadata) {
-      List<String> metadata = Arrays.stream(AbstractEntity.Fields.values()).map(Enum::name).collect(Collectors.toList());
-      this.includes = includes.stream().filter(not(metadata::contains)).collect(Collectors.toCollection(LinkedHashSet::new));
+      this.includes = new LinkedHashSet<>();
+      for (String field : includes) {
+        if (!metadata.isMetadataField(field)) {
+          this.includes.add(field);
+        }
+      }
     }
-    this.excludes = excludes;
+    this.excludes = metadata.names(excludes);
     this.configured = true;
   }
 
@@ -93,21 +137,41 @@ public abstract class AbstractSearch<T extends Enum<T>> implements Search {
     if (configured || CollectionUtils.isEmpty(excludes)) {
       return;
     }
+    SearchMetadata metadata = SearchMetadata.of(getClass());
+    BitSet includes = excludableBits(metadata);
+    if (excludeMetadata) {
+      includes.or(metadata.metadataBits());
+    }
+    includes.andNot(metadata.bits(excludes));
     this.excludes = excludes;
-    LinkedHashSet<String> includes = new LinkedHashSet<>();
+    this.includes = metadata.names(includes);
+    this.configured = true;
+  }
+
+  private BitSet excludableBits(SearchMetadata metadata) {
+    if (excludables == metadata.getExcludables()) {
+      return metadata.excludableBits();
+    }
+    BitSet bits = new BitSet();
     for (Enum<T> field : excludables) {
-      if (!excludes.contains(field.name())) {
-        includes.add(field.name());
+      int index = metadata.indexOf(field.name());
+      if (index < 0) {
+        throw new IllegalArgumentException("Excludable field " + field.name() + " isn't a field of " + getClass().getName());
       }
+      bits.set(index);
     }
-    if (excludeMetadata) {
-      for (AbstractEntity.Fields field : AbstractEntity.Fields.values()) {
-        if (!excludes.contains(field.name())) {
-          includes.add(field.name());
-        }
-      }
+    return bits;
+  }
+
+  private Set<String> defaultIncludes() {
+    SearchMetadata metadata = SearchMetadata.of(getClass());
+    if (excludables == metadata.getExcludables()) {
+      return metadata.getDefaultIncludes();
     }
-    this.includes = includes;
-    this.configured = true;
+    Set<String> names = new LinkedHashSet<>();
+    for (Enum<T> field : excludables) {
+      names.add(field.name());
+    }
+    return names;
   }
 }
@@ -0,0 +1,24 @@
+package io.github.voduku.model;
+
+import javax.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One item of a batch create or update. {@link #key} can be omitted for creating entities with auto generated keys.
+ *
+ * @param <KEY>     Entity Key Type
+ * @param <REQUEST> Request Type
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItem<KEY, REQUEST> {
+
+  private KEY key;
+  @Valid
+  private REQUEST request;
+}
@@ -0,0 +1,48 @@
+package io.github.voduku.model;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A {@link PageImpl} which tells whether its total is exact or approximate. Ex: an estimate or a capped count.
+ *
+ * @param <T> content type
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final boolean exact;
+
+  public CountedPage(List<T> content, Pageable pageable, long total, boolean exact) {
+    super(content, pageable, total);
+    this.exact = exact;
+  }
+
+  /**
+   * @return false if the total is an estimate or a lower bound
+   */
+  public boolean isExact() {
+    return exact;
+  }
+
+  @Override
+  public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+    return new CountedPage<>(getContent().stream().map(converter).collect(Collectors.toList()), getPageable(), getTotalElements(), exact);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return super.equals(obj) && obj instanceof CountedPage && exact == ((CountedPage<?>) obj).exact;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + Boolean.hashCode(exact);
+  }
+}
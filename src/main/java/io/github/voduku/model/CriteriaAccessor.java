@@ -0,0 +1,37 @@
+package io.github.voduku.model;
+
+import io.github.voduku.model.criteria.CriteriaHandler;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * // @formatter:off
+ * Read the criteria of a search class. Accessors are generated at compile time as {@code <SearchClass>_} by {@link io.github.voduku.processor.SearchProcessor}
+ * for every {@link AbstractSearch} sub-class which doesn't implement {@link Search#getCriteria()} itself. {@link SearchMetadata} falls back to cached
+ * reflection for classes without one.
+ * // @formatter:on
+ *
+ * @param <S> search type
+ * @author VuDo
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface CriteriaAccessor<S> {
+
+  /**
+   * @param search search to read
+   * @param action called with the field name and the criteria of every criteria which is set
+   */
+  void forEach(S search, BiConsumer<String, CriteriaHandler<?>> action);
+
+  /**
+   * @param search search to read
+   * @return criteria which are set by field name in declaration order
+   */
+  default Map<String, CriteriaHandler<?>> criteria(S search) {
+    Map<String, CriteriaHandler<?>> criteria = new LinkedHashMap<>();
+    forEach(search, criteria::put);
+    return criteria;
+  }
+}
@@ -0,0 +1,29 @@
+package io.github.voduku.model;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * // @formatter:off
+ * A slice of data fetched with keyset (seek) pagination. Instead of a page number, {@link #nextCursor} is sent back to get the next slice.
+ * <br>Fetching any slice costs the same as fetching the first one since no OFFSET is involved.
+ * // @formatter:on
+ *
+ * @param <T> Content Type
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Value
+public class CursorSlice<T> {
+
+  List<T> content;
+  int size;
+  boolean hasNext;
+  String nextCursor;
+
+  public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+    return new CursorSlice<>(content.stream().map(converter).collect(Collectors.toList()), size, hasNext, nextCursor);
+  }
+}
@@ -38,7 +38,10 @@ public class Metadata {
     entity.setModifiedAt(new Timestamp(Calendar.getInstance().getTimeInMillis()));
   }
 
-  private String getActorId() {
+  /**
+   * @return name of the authenticated user, "USER" if the user has no name or "ANONYMOUS" if nobody is authenticated
+   */
+  public static String getActorId() {
     Authentication auth = SecurityContextHolder.getContext() == null ? null : SecurityContextHolder.getContext().getAuthentication();
     if (auth != null && auth.isAuthenticated()) {
       return StringUtils.hasLength(auth.getName()) ? auth.getName() : "USER";
@@ -0,0 +1,118 @@
+package io.github.voduku.model;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * // @formatter:off
+ * Immutable set of the fields included in a query as bits over the fields of a search class ({@link SearchMetadata#getFields()}). Fields are always iterated
+ * in the same order so equal projections select the same columns and share query plans and tuple mappers. Equality and hash code of two projections of the
+ * same class only compare bits.
+ * <br>Use {@link AbstractSearch#getProjection()} to get the projection of a search.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public final class Projection extends AbstractSet<String> {
+
+  private final SearchMetadata metadata;
+  private final BitSet bits;
+  private final List<String> fields;
+  private final int hash;
+
+  Projection(SearchMetadata metadata, BitSet bits) {
+    this.metadata = metadata;
+    this.bits = (BitSet) bits.clone();
+    List<String> fields = new ArrayList<>(bits.cardinality());
+    int hash = 0;
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      String field = metadata.getFields().get(i);
+      fields.add(field);
+      hash += field.hashCode();
+    }
+    this.fields = Collections.unmodifiableList(fields);
+    this.hash = hash;
+  }
+
+  /**
+   * @param metadata metadata of the search class
+   * @param fields   included fields
+   * @return projection of the fields or null if any of them isn't a field of the search class
+   */
+  public static Projection of(SearchMetadata metadata, Collection<String> fields) {
+    BitSet bits = new BitSet(metadata.getFields().size());
+    return set(metadata, bits, fields) ? new Projection(metadata, bits) : null;
+  }
+
+  /**
+   * @param fields fields to add. Ex: key fields or sort fields
+   * @return a projection with the given fields or this if it already has them. Null if any of them isn't a field of the search class.
+   */
+  public Projection with(Collection<String> fields) {
+    BitSet bits = (BitSet) this.bits.clone();
+    if (!set(metadata, bits, fields)) {
+      return null;
+    }
+    return bits.equals(this.bits) ? this : new Projection(metadata, bits);
+  }
+
+  /**
+   * @return included fields in the order of {@link SearchMetadata#getFields()}
+   */
+  public List<String> getFields() {
+    return fields;
+  }
+
+  /**
+   * @return a copy of the bits of the included fields
+   */
+  public BitSet toBitSet() {
+    return (BitSet) bits.clone();
+  }
+
+  @Override
+  public boolean contains(Object field) {
+    int index = field instanceof String ? metadata.indexOf((String) field) : -1;
+    return index >= 0 && bits.get(index);
+  }
+
+  @Override
+  public Iterator<String> iterator() {
+    return fields.iterator();
+  }
+
+  @Override
+  public int size() {
+    return fields.size();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof Projection && ((Projection) obj).metadata == metadata) {
+      return ((Projection) obj).bits.equals(bits);
+    }
+    return super.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  private static boolean set(SearchMetadata metadata, BitSet bits, Collection<String> fields) {
+    for (String field : fields) {
+      int index = metadata.indexOf(field);
+      if (index < 0) {
+        return false;
+      }
+      bits.set(index);
+    }
+    return true;
+  }
+}
@@ -2,6 +2,7 @@ package io.github.voduku.model;
 
 import io.github.voduku.model.criteria.CriteriaHandler;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * @author VuDo
@@ -10,4 +11,18 @@ import java.util.Map;
 public interface Search {
 
   Map<String, CriteriaHandler<?>> getCriteria();
+
+  /**
+   * Visit criteria which are set without building a map if the search supports it.
+   *
+   * @param action called with the field name and the criteria of every criteria which is set
+   * @since 1.3.0
+   */
+  default void forEachCriteria(BiConsumer<String, CriteriaHandler<?>> action) {
+    getCriteria().forEach((column, handler) -> {
+      if (handler != null) {
+        action.accept(column, handler);
+      }
+    });
+  }
 }
@@ -0,0 +1,40 @@
+package io.github.voduku.model;
+
+import io.github.voduku.model.criteria.CriteriaHandler;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Value;
+
+/**
+ * // @formatter:off
+ * Normalized filter of a search which can be used as a cache key. Two searches of the same type with equal non-null criteria have equal keys regardless of
+ * the order criteria are declared.
+ * <br>Criteria are compared with their {@link Object#equals(Object)} so custom {@link CriteriaHandler} should implement it to be cached effectively.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Value
+public class SearchKey {
+
+  Class<?> type;
+  Map<String, CriteriaHandler<?>> criteria;
+  boolean distinct;
+  List<Object> extras;
+
+  /**
+   * @param type   entity or search type
+   * @param params filtering params
+   * @param extras anything else changing the result. Ex: includes, sort, page
+   * @return key of the search
+   */
+  public static SearchKey of(Class<?> type, AbstractSearch<?> params, Object... extras) {
+    Map<String, CriteriaHandler<?>> criteria = new TreeMap<>();
+    params.forEachCriteria(criteria::put);
+    return new SearchKey(type, Collections.unmodifiableMap(criteria), params.isDistinct(), Arrays.asList(extras));
+  }
+}
@@ -0,0 +1,245 @@
+package io.github.voduku.model;
+
+import io.github.voduku.model.criteria.CriteriaHandler;
+import io.github.voduku.model.criteria.SearchCriteria;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * // @formatter:off
+ * Immutable metadata of a search class resolved once per class instead of once per request. Search instances are created by data binding for every request
+ * so their constructor and {@link AbstractSearch#setIncludes}/{@link AbstractSearch#setExcludes} only read this.
+ * <br>Metadata is built on first use of a class or at startup for classes verified by
+ * {@link io.github.voduku.autoconfigure.VerifySearchClassesAutoConfig}.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Getter
+public final class SearchMetadata {
+
+  private static final ClassValue<SearchMetadata> REGISTRY = new ClassValue<>() {
+    @Override
+    protected SearchMetadata computeValue(Class<?> type) {
+      return new SearchMetadata(type);
+    }
+  };
+  /**
+   * Names of the {@link AbstractEntity} metadata fields
+   */
+  @Getter
+  private static final Set<String> metadataFields = names(AbstractEntity.Fields.values());
+
+  /**
+   * Enum constants of the entity fields. The array is shared by every instance of the search class so it must not be modified.
+   */
+  private final Enum<?>[] excludables;
+  /**
+   * Names of {@link #excludables} in order
+   */
+  private final Set<String> defaultIncludes;
+  /**
+   * Fields of {@link SearchCriteria} declared by the search class and its super classes by name
+   */
+  private final Map<String, Field> criteriaFields;
+  /**
+   * Accessor generated for the class or one reading {@link #criteriaFields} with reflection
+   */
+  private final CriteriaAccessor<Object> criteriaAccessor;
+  /**
+   * Whether the class implements {@link Search#getCriteria()} itself. Its criteria are always read with it then.
+   */
+  private final boolean customCriteria;
+  /**
+   * Every field a {@link Projection} of the class can hold: {@link #excludables} then {@link #metadataFields} which aren't excludable
+   */
+  private final List<String> fields;
+  @Getter(AccessLevel.NONE)
+  private final Map<String, Integer> indexes = new HashMap<>();
+  @Getter(AccessLevel.NONE)
+  private final BitSet excludableBits = new BitSet();
+  @Getter(AccessLevel.NONE)
+  private final BitSet metadataBits = new BitSet();
+  /**
+   * Projection of {@link #defaultIncludes}
+   */
+  private final Projection defaultProjection;
+
+  private SearchMetadata(Class<?> searchClass) {
+    Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(searchClass, AbstractSearch.class);
+    if (arguments == null || arguments[0] == null || !arguments[0].isEnum()) {
+      throw new IllegalStateException("Can't resolve the fields enum of " + searchClass.getName() + ". Declare it as the type argument of AbstractSearch");
+    }
+    this.excludables = (Enum<?>[]) arguments[0].getEnumConstants();
+    this.defaultIncludes = names(excludables);
+    this.criteriaFields = criteriaFields(searchClass);
+    CriteriaAccessor<Object> generated = generatedAccessor(searchClass);
+    this.criteriaAccessor = generated != null ? generated : this::forEachField;
+    Method getCriteria = ReflectionUtils.findMethod(searchClass, "getCriteria");
+    this.customCriteria = getCriteria != null && getCriteria.getDeclaringClass() != AbstractSearch.class;
+    List<String> fields = new ArrayList<>(defaultIncludes);
+    metadataFields.stream().filter(field -> !defaultIncludes.contains(field)).forEach(fields::add);
+    this.fields = List.copyOf(fields);
+    for (int i = 0; i < fields.size(); i++) {
+      indexes.put(fields.get(i), i);
+    }
+    excludableBits.set(0, defaultIncludes.size());
+    metadataFields.forEach(field -> metadataBits.set(indexes.get(field)));
+    this.defaultProjection = new Projection(this, excludableBits);
+  }
+
+  /**
+   * @param searchClass a sub-class of {@link AbstractSearch}
+   * @return metadata of the class
+   * @throws IllegalStateException if the fields enum of the class can't be resolved. Ex: a generic sub-class
+   */
+  public static SearchMetadata of(Class<?> searchClass) {
+    return REGISTRY.get(searchClass);
+  }
+
+  /**
+   * Read criteria of a search with {@link #criteriaAccessor}
+   *
+   * @param search instance of the search class
+   * @return criteria which are set by field name in declaration order
+   */
+  public Map<String, CriteriaHandler<?>> criteria(Object search) {
+    return criteriaAccessor.criteria(search);
+  }
+
+  /**
+   * Visit criteria of a search with {@link #criteriaAccessor}
+   *
+   * @param search instance of the search class
+   * @param action called with the field name and the criteria of every criteria which is set
+   */
+  public void forEachCriteria(Object search, BiConsumer<String, CriteriaHandler<?>> action) {
+    criteriaAccessor.forEach(search, action);
+  }
+
+  /**
+   * @param field field name
+   * @return position of the field in {@link #fields} or -1 if it isn't a field of the class
+   */
+  public int indexOf(String field) {
+    Integer index = indexes.get(field);
+    return index == null ? -1 : index;
+  }
+
+  public boolean isMetadataField(String field) {
+    int index = indexOf(field);
+    return index >= 0 && metadataBits.get(index);
+  }
+
+  /**
+   * @param names field names
+   * @return a new bit set of the given fields. Names which aren't fields of the class are skipped.
+   */
+  public BitSet bits(Collection<String> names) {
+    BitSet bits = new BitSet(fields.size());
+    for (String name : names) {
+      int index = indexOf(name);
+      if (index >= 0) {
+        bits.set(index);
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * @return a new bit set of {@link #excludables}
+   */
+  public BitSet excludableBits() {
+    return (BitSet) excludableBits.clone();
+  }
+
+  /**
+   * @return a new bit set of {@link #metadataFields}
+   */
+  public BitSet metadataBits() {
+    return (BitSet) metadataBits.clone();
+  }
+
+  /**
+   * @param bits bits of fields
+   * @return names of the fields in the order of {@link #fields}
+   */
+  public LinkedHashSet<String> names(BitSet bits) {
+    LinkedHashSet<String> names = new LinkedHashSet<>();
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      names.add(fields.get(i));
+    }
+    return names;
+  }
+
+  @SneakyThrows
+  private void forEachField(Object search, BiConsumer<String, CriteriaHandler<?>> action) {
+    for (Map.Entry<String, Field> field : criteriaFields.entrySet()) {
+      CriteriaHandler<?> criteria = (CriteriaHandler<?>) field.getValue().get(search);
+      if (criteria != null) {
+        action.accept(field.getKey(), criteria);
+      }
+    }
+  }
+
+  /**
+   * @return an instance of the {@code <SearchClass>_} accessor generated by {@link io.github.voduku.processor.SearchProcessor} or null if there is none
+   */
+  @SuppressWarnings("unchecked")
+  private static CriteriaAccessor<Object> generatedAccessor(Class<?> searchClass) {
+    try {
+      Class<?> accessor = ClassUtils.forName(searchClass.getName().replace('$', '_') + "_", searchClass.getClassLoader());
+      if (!CriteriaAccessor.class.isAssignableFrom(accessor)) {
+        return null;
+      }
+      return (CriteriaAccessor<Object>) ReflectionUtils.accessibleConstructor(accessor).newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return null;
+    }
+  }
+
+  private static Set<String> names(Enum<?>[] constants) {
+    Set<String> names = new LinkedHashSet<>();
+    for (Enum<?> constant : constants) {
+      names.add(constant.name());
+    }
+    return Collections.unmodifiableSet(names);
+  }
+
+  private static Map<String, Field> criteriaFields(Class<?> searchClass) {
+    List<Class<?>> hierarchy = new ArrayList<>();
+    for (Class<?> type = searchClass; type != null && type != AbstractSearch.class; type = type.getSuperclass()) {
+      hierarchy.add(0, type);
+    }
+    Map<String, Field> fields = new LinkedHashMap<>();
+    for (Class<?> type : hierarchy) {
+      Arrays.stream(type.getDeclaredFields())
+          .filter(field -> !Modifier.isStatic(field.getModifiers()) && SearchCriteria.class.isAssignableFrom(field.getType()))
+          .forEach(field -> {
+            ReflectionUtils.makeAccessible(field);
+            fields.put(field.getName(), field);
+          });
+    }
+    return Collections.unmodifiableMap(fields);
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.voduku.model.criteria;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.ParameterExpression;
+
+/**
+ * // @formatter:off
+ * Collect named query parameters of a query. Names are prefixed with the current {@link #column(String)} so criteria of different columns never clash.
+ * <br>When created without a {@link CriteriaBuilder}, it can only {@link #bind(String, Object)} values to a query rendered earlier.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class CriteriaParameters {
+
+  private static final String SEPARATOR = "_";
+
+  private final CriteriaBuilder cb;
+  private final Map<String, Object> values = new HashMap<>();
+  private String prefix = "";
+
+  public CriteriaParameters(CriteriaBuilder cb) {
+    this.cb = cb;
+  }
+
+  /**
+   * Switch to the given column. Names of parameters created after this will be prefixed with the column.
+   *
+   * @param column column (field) name
+   * @return this
+   */
+  public CriteriaParameters column(String column) {
+    this.prefix = column + SEPARATOR;
+    return this;
+  }
+
+  /**
+   * Create a parameter expression and remember its value
+   *
+   * @param name  parameter name which is unique within a column
+   * @param type  parameter type
+   * @param value parameter value
+   * @return a named {@link ParameterExpression}
+   */
+  public <V> ParameterExpression<V> parameter(String name, Class<V> type, Object value) {
+    if (cb == null) {
+      throw new IllegalStateException("Parameters are bind-only");
+    }
+    values.put(prefix + name, value);
+    return cb.parameter(type, prefix + name);
+  }
+
+  /**
+   * Remember a value for a parameter created with the same name earlier
+   *
+   * @param name  parameter name which is unique within a column
+   * @param value parameter value
+   */
+  public void bind(String name, Object value) {
+    values.put(prefix + name, value);
+  }
+
+  public Map<String, Object> getValues() {
+    return values;
+  }
+}
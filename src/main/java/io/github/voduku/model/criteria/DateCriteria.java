@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Predicate;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
@@ -16,6 +17,7 @@ import lombok.experimental.SuperBuilder;
  * @author VuDo
  * @since 1.0.0
  */
+@EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @SuperBuilder(toBuilder = true)
 @Accessors(fluent = true, chain = true)
@@ -107,4 +109,57 @@ public class DateCriteria extends SearchCriteria<Date> {
     }
     return predicates;
   }
+
+  @Override
+  public List<Predicate> handle(CriteriaBuilder cb, Expression<Date> expression, CriteriaParameters parameters) {
+    List<Predicate> predicates = handleCriteria(cb, expression, parameters);
+    if (gt != null) {
+      predicates.add(cb.greaterThan(expression, parameters.parameter("gt", Date.class, gt)));
+    }
+    if (gte != null) {
+      predicates.add(cb.greaterThanOrEqualTo(expression, parameters.parameter("gte", Date.class, gte)));
+    }
+    if (lt != null) {
+      predicates.add(cb.lessThan(expression, parameters.parameter("lt", Date.class, lt)));
+    }
+    if (lte != null) {
+      predicates.add(cb.lessThanOrEqualTo(expression, parameters.parameter("lte", Date.class, lte)));
+    }
+    return predicates;
+  }
+
+  @Override
+  public void bind(CriteriaParameters parameters) {
+    super.bind(parameters);
+    if (gt != null) {
+      parameters.bind("gt", gt);
+    }
+    if (gte != null) {
+      parameters.bind("gte", gte);
+    }
+    if (lt != null) {
+      parameters.bind("lt", lt);
+    }
+    if (lte != null) {
+      parameters.bind("lte", lte);
+    }
+  }
+
+  @Override
+  protected StringBuilder shape(StringBuilder shape) {
+    super.shape(shape);
+    if (gt != null) {
+      shape.append("gt,");
+    }
+    if (gte != null) {
+      shape.append("gte,");
+    }
+    if (lt != null) {
+      shape.append("lt,");
+    }
+    if (lte != null) {
+      shape.append("lte,");
+    }
+    return shape;
+  }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Predicate;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
@@ -12,6 +13,7 @@ import lombok.experimental.SuperBuilder;
  * @author VuDo
  * @since 1.0.0
  */
+@EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @SuperBuilder(toBuilder = true)
 @Accessors(fluent = true, chain = true)
@@ -75,4 +77,57 @@ public class NumberCriteria extends SearchCriteria<Number> {
     }
     return predicates;
   }
+
+  @Override
+  public List<Predicate> handle(CriteriaBuilder cb, Expression<Number> expression, CriteriaParameters parameters) {
+    List<Predicate> predicates = handleCriteria(cb, expression, parameters);
+    if (gt != null) {
+      predicates.add(cb.gt(expression, parameters.parameter("gt", Number.class, gt)));
+    }
+    if (gte != null) {
+      predicates.add(cb.ge(expression, parameters.parameter("gte", Number.class, gte)));
+    }
+    if (lt != null) {
+      predicates.add(cb.lt(expression, parameters.parameter("lt", Number.class, lt)));
+    }
+    if (lte != null) {
+      predicates.add(cb.le(expression, parameters.parameter("lte", Number.class, lte)));
+    }
+    return predicates;
+  }
+
+  @Override
+  public void bind(CriteriaParameters parameters) {
+    super.bind(parameters);
+    if (gt != null) {
+      parameters.bind("gt", gt);
+    }
+    if (gte != null) {
+      parameters.bind("gte", gte);
+    }
+    if (lt != null) {
+      parameters.bind("lt", lt);
+    }
+    if (lte != null) {
+      parameters.bind("lte", lte);
+    }
+  }
+
+  @Override
+  protected StringBuilder shape(StringBuilder shape) {
+    super.shape(shape);
+    if (gt != null) {
+      shape.append("gt,");
+    }
+    if (gte != null) {
+      shape.append("gte,");
+    }
+    if (lt != null) {
+      shape.append("lt,");
+    }
+    if (lte != null) {
+      shape.append("lte,");
+    }
+    return shape;
+  }
 }
@@ -0,0 +1,43 @@
+package io.github.voduku.model.criteria;
+
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+
+/**
+ * // @formatter:off
+ * Handler for search criteria which can be rendered into a query once and reused for any criteria of the same {@link #shape()}.
+ * <br>Implementations must only use parameters from {@link CriteriaParameters} and never literal values in their predicates. Otherwise, the value would be
+ * rendered into the reused query.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public interface ParameterizedCriteriaHandler<T> extends CriteriaHandler<T> {
+
+  /**
+   * Describe which predicates this criteria creates. Criteria with the same shape must create the same predicates regardless of their values.
+   *
+   * @return shape of the criteria, an empty string if there is no predicate or null if the criteria can't be parameterized.
+   */
+  String shape();
+
+  /**
+   * Same as {@link #handle(CriteriaBuilder, Expression)} but values are bound as parameters.
+   *
+   * @param cb         CriteriaBuilder
+   * @param expression this will be an expression of a field (column). This is the result of root.get(column)
+   * @param parameters parameters of the column
+   * @return predicates
+   */
+  List<Predicate> handle(CriteriaBuilder cb, Expression<T> expression, CriteriaParameters parameters);
+
+  /**
+   * Bind values of this criteria to parameters with the same names as in {@link #handle(CriteriaBuilder, Expression, CriteriaParameters)}
+   *
+   * @param parameters parameters of the column
+   */
+  void bind(CriteriaParameters parameters);
+}
@@ -1,25 +1,40 @@
 package io.github.voduku.model.criteria;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Predicate;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * @author VuDo
  * @since 1.0.0
  */
+@EqualsAndHashCode
 @NoArgsConstructor
 @SuperBuilder(toBuilder = true)
 @Accessors(fluent = true, chain = true)
-public class SearchCriteria<T> implements CriteriaHandler<T> {
+public class SearchCriteria<T> implements ParameterizedCriteriaHandler<T> {
+
+  private static final ClassValue<Boolean> parameterizable = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return isOverriddenTogether(type, "handle", CriteriaBuilder.class, Expression.class)
+          && isOverriddenTogether(type, "handleCriteria", CriteriaBuilder.class, Expression.class)
+          && isOverriddenTogether(type, "handleEqual", CriteriaBuilder.class, Expression.class)
+          && isOverriddenTogether(type, "handleIn", Expression.class);
+    }
+  };
 
   T eq;
   Collection<? extends T> in;
@@ -74,11 +89,88 @@ public class SearchCriteria<T> implements CriteriaHandler<T> {
   }
 
   protected Predicate handleEqual(CriteriaBuilder cb, Expression<T> expression) {
-    return cb.equal(expression, eq);
+    return cb.equal(expression, equalValue());
   }
 
   protected Predicate handleIn(Expression<T> expression) {
     return expression.in(in);
   }
+
+  /**
+   * Sub-classes overriding literal predicates without their parameterized counterparts can't be parameterized and will return null.
+   */
+  @Override
+  public String shape() {
+    return parameterizable.get(getClass()) ? shape(new StringBuilder()).toString() : null;
+  }
+
+  @Override
+  public List<Predicate> handle(CriteriaBuilder cb, Expression<T> expression, CriteriaParameters parameters) {
+    return handleCriteria(cb, expression, parameters);
+  }
+
+  @Override
+  public void bind(CriteriaParameters parameters) {
+    if (eq != null) {
+      parameters.bind("eq", equalValue());
+    }
+    if (!CollectionUtils.isEmpty(in)) {
+      parameters.bind("in", in);
+    }
+  }
+
+  protected StringBuilder shape(StringBuilder shape) {
+    if (eq != null) {
+      shape.append("eq,");
+    }
+    if (!CollectionUtils.isEmpty(in)) {
+      shape.append("in,");
+    }
+    if (isNull != null) {
+      shape.append(isNull ? "null," : "notNull,");
+    }
+    return shape;
+  }
+
+  protected List<Predicate> handleCriteria(CriteriaBuilder cb, Expression<T> expression, CriteriaParameters parameters) {
+    List<Predicate> predicates = new ArrayList<>();
+    if (eq != null) {
+      predicates.add(handleEqual(cb, expression, parameters));
+    }
+    if (!CollectionUtils.isEmpty(in)) {
+      predicates.add(handleIn(expression, parameters));
+    }
+    if (Objects.equals(isNull, Boolean.TRUE)) {
+      predicates.add(expression.isNull());
+    }
+    if (Objects.equals(isNull, Boolean.FALSE)) {
+      predicates.add(expression.isNotNull());
+    }
+    return predicates;
+  }
+
+  protected Predicate handleEqual(CriteriaBuilder cb, Expression<T> expression, CriteriaParameters parameters) {
+    return cb.equal(expression, parameters.parameter("eq", Object.class, equalValue()));
+  }
+
+  @SuppressWarnings("rawtypes")
+  protected Predicate handleIn(Expression<T> expression, CriteriaParameters parameters) {
+    return expression.in(parameters.parameter("in", Collection.class, in));
+  }
+
+  /**
+   * @return value used by equal predicate
+   */
+  protected Object equalValue() {
+    return eq;
+  }
+
+  private static boolean isOverriddenTogether(Class<?> type, String name, Class<?>... literalParameterTypes) {
+    Class<?>[] parameterizedTypes = Arrays.copyOf(literalParameterTypes, literalParameterTypes.length + 1);
+    parameterizedTypes[literalParameterTypes.length] = CriteriaParameters.class;
+    Method literal = ReflectionUtils.findMethod(type, name, literalParameterTypes);
+    Method parameterized = ReflectionUtils.findMethod(type, name, parameterizedTypes);
+    return literal != null && parameterized != null && literal.getDeclaringClass().equals(parameterized.getDeclaringClass());
+  }
 }
 
@@ -6,6 +6,7 @@ import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Predicate;
 import lombok.AllArgsConstructor;
 import lombok.Builder.Default;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
@@ -15,6 +16,7 @@ import org.springframework.util.StringUtils;
  * @author VuDo
  * @since 1.0.0
  */
+@EqualsAndHashCode(callSuper = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder(toBuilder = true)
@@ -50,13 +52,49 @@ public class StringCriteria extends SearchCriteria<String> {
     }
     List<Predicate> predicates = handleCriteria(cb, expression);
     if (StringUtils.hasLength(like)) {
-      predicates.add(cb.like(expression, caseSensitive ? like : like.toUpperCase()));
+      predicates.add(cb.like(expression, likeValue()));
     }
     return predicates;
   }
 
   @Override
-  protected Predicate handleEqual(CriteriaBuilder cb, Expression<String> expression) {
-    return cb.equal(expression, caseSensitive ? eq : eq.toUpperCase());
+  public List<Predicate> handle(CriteriaBuilder cb, Expression<String> expression, CriteriaParameters parameters) {
+    if (!caseSensitive) {
+      expression = cb.upper(expression);
+    }
+    List<Predicate> predicates = handleCriteria(cb, expression, parameters);
+    if (StringUtils.hasLength(like)) {
+      predicates.add(cb.like(expression, parameters.parameter("like", String.class, likeValue())));
+    }
+    return predicates;
+  }
+
+  @Override
+  public void bind(CriteriaParameters parameters) {
+    super.bind(parameters);
+    if (StringUtils.hasLength(like)) {
+      parameters.bind("like", likeValue());
+    }
+  }
+
+  @Override
+  protected StringBuilder shape(StringBuilder shape) {
+    super.shape(shape);
+    if (StringUtils.hasLength(like)) {
+      shape.append("like,");
+    }
+    if (!caseSensitive) {
+      shape.append("ci,");
+    }
+    return shape;
+  }
+
+  @Override
+  protected Object equalValue() {
+    return caseSensitive ? eq : eq.toUpperCase();
+  }
+
+  private String likeValue() {
+    return caseSensitive ? like : like.toUpperCase();
   }
 }
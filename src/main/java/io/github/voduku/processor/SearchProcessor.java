@@ -0,0 +1,268 @@
+package io.github.voduku.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.StandardLocation;
+
+/**
+ * // @formatter:off
+ * Generate a {@link io.github.voduku.model.CriteriaAccessor} named {@code <SearchClass>_} next to every concrete {@link io.github.voduku.model.AbstractSearch}
+ * sub-class which doesn't implement {@code getCriteria()} itself. Accessors read criteria fields with getters or directly and skip criteria which aren't set
+ * so searches are read without reflection and without building a map.
+ * <br>The processor is registered as a service of the starter jar so it runs whenever the starter is on the compile class path. Add the starter to
+ * {@code annotationProcessorPaths} of the maven-compiler-plugin if processors are configured there. Ex: next to Lombok and MapStruct.
+ * <br>Classes which can't be read (private classes, generic classes or private fields without getters) are skipped with a note and read with reflection.
+ * <br>Every search class found is also listed in {@link #SEARCH_INDEX} with its fields which aren't criteria so
+ * {@link io.github.voduku.autoconfigure.VerifySearchClassesAutoConfig} verifies them at startup without scanning the class path.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@SupportedAnnotationTypes("*")
+public class SearchProcessor extends AbstractProcessor {
+
+  private static final String ABSTRACT_SEARCH = "io.github.voduku.model.AbstractSearch";
+  private static final String SEARCH_CRITERIA = "io.github.voduku.model.criteria.SearchCriteria";
+  private static final Set<String> LOMBOK_GETTERS = Set.of("lombok.Data", "lombok.Getter", "lombok.Value");
+  /**
+   * Properties of search class binary names to comma separated names of their fields which aren't {@code SearchCriteria}
+   */
+  public static final String SEARCH_INDEX = "META-INF/abstraction/search-classes.properties";
+
+  private final Set<String> generated = new HashSet<>();
+  private final Map<String, String> index = new TreeMap<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement abstractSearch = processingEnv.getElementUtils().getTypeElement(ABSTRACT_SEARCH);
+    TypeElement searchCriteria = processingEnv.getElementUtils().getTypeElement(SEARCH_CRITERIA);
+    if (abstractSearch == null || searchCriteria == null) {
+      return false;
+    }
+    if (roundEnv.processingOver()) {
+      writeIndex(abstractSearch);
+      return false;
+    }
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+      process(type, abstractSearch, searchCriteria);
+    }
+    return false;
+  }
+
+  private void process(TypeElement type, TypeElement abstractSearch, TypeElement searchCriteria) {
+    for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+      process(member, abstractSearch, searchCriteria);
+    }
+    if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT) || !isSearch(type, abstractSearch)) {
+      return;
+    }
+    if (type.getNestingKind() == NestingKind.TOP_LEVEL || type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(Modifier.STATIC)) {
+      index(type, searchCriteria);
+    }
+    if (type.getModifiers().contains(Modifier.PRIVATE) || !type.getTypeParameters().isEmpty()
+        || type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+      note(type, "it is private, generic or not static");
+      return;
+    }
+    List<TypeElement> hierarchy = hierarchy(type, abstractSearch);
+    if (hierarchy.stream().anyMatch(this::declaresGetCriteria)) {
+      return;
+    }
+    Map<String, String> accessors = new LinkedHashMap<>();
+    for (TypeElement declaring : hierarchy) {
+      for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+        if (field.getModifiers().contains(Modifier.STATIC)
+            || !processingEnv.getTypeUtils().isAssignable(erasure(field.asType()), erasure(searchCriteria.asType()))) {
+          continue;
+        }
+        String accessor = accessor(type, declaring, field);
+        if (accessor == null) {
+          note(type, "field " + field.getSimpleName() + " has no getter");
+          return;
+        }
+        accessors.put(field.getSimpleName().toString(), accessor);
+      }
+    }
+    write(type, accessors);
+  }
+
+  /**
+   * Verify the fields declared by the class as {@link io.github.voduku.autoconfigure.VerifySearchClassesAutoConfig} does
+   */
+  private void index(TypeElement type, TypeElement searchCriteria) {
+    List<String> invalid = ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+        .filter(field -> !processingEnv.getTypeUtils().isAssignable(erasure(field.asType()), erasure(searchCriteria.asType())))
+        .map(field -> field.getSimpleName().toString())
+        .collect(Collectors.toList());
+    if (!invalid.isEmpty()) {
+      processingEnv.getMessager().printMessage(Kind.WARNING, "Fields " + invalid + " of " + type.getQualifiedName()
+          + " should be SearchCriteria sub-classes such as StringCriteria. Startup fails until they are fixed.", type);
+    }
+    index.put(processingEnv.getElementUtils().getBinaryName(type).toString(), String.join(",", invalid));
+  }
+
+  /**
+   * Write {@link #SEARCH_INDEX}. Entries of a previous compilation are kept for classes which are still search classes so incremental builds which only
+   * process changed sources don't drop them.
+   */
+  private void writeIndex(TypeElement abstractSearch) {
+    if (index.isEmpty()) {
+      return;
+    }
+    Properties properties = new Properties();
+    try (InputStream previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SEARCH_INDEX).openInputStream()) {
+      properties.load(previous);
+      properties.keySet().removeIf(name -> {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(((String) name).replace('$', '.'));
+        return type == null || type.getModifiers().contains(Modifier.ABSTRACT) || !isSearch(type, abstractSearch);
+      });
+    } catch (IOException | IllegalArgumentException e) {
+      // first compilation
+    }
+    properties.putAll(index);
+    try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SEARCH_INDEX).openWriter()) {
+      for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+        writer.write(name + "=" + properties.getProperty(name) + "\n");
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR, "Can't write " + SEARCH_INDEX + ": " + e.getMessage());
+    }
+  }
+
+  private boolean isSearch(TypeElement type, TypeElement abstractSearch) {
+    return processingEnv.getTypeUtils().isSubtype(erasure(type.asType()), erasure(abstractSearch.asType()));
+  }
+
+  /**
+   * @return classes from the sub-class of {@link io.github.voduku.model.AbstractSearch} down to the given type
+   */
+  private List<TypeElement> hierarchy(TypeElement type, TypeElement abstractSearch) {
+    List<TypeElement> hierarchy = new ArrayList<>();
+    for (TypeElement current = type; current != null && !current.equals(abstractSearch); current = superclass(current)) {
+      hierarchy.add(0, current);
+    }
+    return hierarchy;
+  }
+
+  private TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+  }
+
+  private boolean declaresGetCriteria(TypeElement type) {
+    return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+        .anyMatch(method -> method.getSimpleName().contentEquals("getCriteria") && method.getParameters().isEmpty()
+            && !method.getModifiers().contains(Modifier.ABSTRACT));
+  }
+
+  /**
+   * @return expression reading the field from {@code search} or null if the generated class can't read it
+   */
+  private String accessor(TypeElement type, TypeElement declaring, VariableElement field) {
+    String name = field.getSimpleName().toString();
+    String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    boolean hasGetter = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+        .anyMatch(method -> method.getSimpleName().contentEquals(getter) && method.getParameters().isEmpty() && isVisible(type, method));
+    if (hasGetter || hasLombokGetter(field) || hasLombokGetter(declaring)) {
+      return "search." + getter + "()";
+    }
+    if (!field.getModifiers().contains(Modifier.PRIVATE) && (field.getModifiers().contains(Modifier.PUBLIC) || samePackage(type, declaring))) {
+      return "search." + name;
+    }
+    return null;
+  }
+
+  private boolean isVisible(TypeElement type, ExecutableElement method) {
+    Set<Modifier> modifiers = method.getModifiers();
+    return modifiers.contains(Modifier.PUBLIC)
+        || !modifiers.contains(Modifier.PRIVATE) && samePackage(type, (TypeElement) method.getEnclosingElement());
+  }
+
+  private boolean hasLombokGetter(Element element) {
+    return element.getAnnotationMirrors().stream()
+        .anyMatch(annotation -> LOMBOK_GETTERS.contains(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString()));
+  }
+
+  private boolean samePackage(TypeElement type, TypeElement other) {
+    return processingEnv.getElementUtils().getPackageOf(type).equals(processingEnv.getElementUtils().getPackageOf(other));
+  }
+
+  private TypeMirror erasure(TypeMirror type) {
+    return processingEnv.getTypeUtils().erasure(type);
+  }
+
+  private void write(TypeElement type, Map<String, String> accessors) {
+    PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+    String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + "_";
+    String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    if (!generated.add(qualifiedName)) {
+      return;
+    }
+    String searchType = type.getQualifiedName().toString();
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append("import io.github.voduku.model.CriteriaAccessor;\n")
+        .append("import io.github.voduku.model.criteria.CriteriaHandler;\n")
+        .append("import java.util.function.BiConsumer;\n")
+        .append("import javax.annotation.processing.Generated;\n\n")
+        .append("@Generated(\"").append(getClass().getName()).append("\")\n")
+        .append("public final class ").append(simpleName).append(" implements CriteriaAccessor<").append(searchType).append("> {\n\n")
+        .append("  @Override\n")
+        .append("  public void forEach(").append(searchType).append(" search, BiConsumer<String, CriteriaHandler<?>> action) {\n");
+    if (!accessors.isEmpty()) {
+      source.append("    CriteriaHandler<?> criteria;\n");
+    }
+    accessors.forEach((field, accessor) -> source
+        .append("    if ((criteria = ").append(accessor).append(") != null) {\n")
+        .append("      action.accept(\"").append(field).append("\", criteria);\n")
+        .append("    }\n"));
+    source.append("  }\n}\n");
+    try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(source.toString());
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR, "Can't generate " + qualifiedName + ": " + e.getMessage(), type);
+    }
+  }
+
+  private void note(TypeElement type, String reason) {
+    processingEnv.getMessager().printMessage(Kind.NOTE, "Criteria of " + type.getQualifiedName() + " are read with reflection because " + reason, type);
+  }
+}
@@ -0,0 +1,117 @@
+package io.github.voduku.reactive;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * // @formatter:off
+ * Adapt blocking streams of query results into {@link Flux}. Every subscription reads its stream on one thread of the executor, within its own transaction,
+ * and only reads the next row once subscribers request it. Rows not requested yet stay in the database cursor so memory is bounded by the JDBC fetch size
+ * of the stream, which is chosen by the caller rather than derived from the demand.
+ * <br>Reactor is an optional dependency. Add {@code io.projectreactor:reactor-core} to use this class.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public final class Fluxes {
+
+  private Fluxes() {
+  }
+
+  /**
+   * @param streams     opens the stream to read. It is called on the executor within the transaction and the stream is closed once read or cancelled.
+   * @param executor    executor reading the stream. Every subscription blocks one of its threads until the stream is read or cancelled.
+   * @param transaction transaction of the stream or null if the stream doesn't need one
+   * @return a cold {@link Flux} opening a new stream per subscription
+   */
+  public static <T> Flux<T> fromStream(Supplier<Stream<T>> streams, Executor executor, TransactionTemplate transaction) {
+    return Flux.create(sink -> {
+      Demand demand = new Demand();
+      sink.onRequest(demand::add);
+      sink.onDispose(demand::cancel);
+      executor.execute(() -> {
+        try {
+          if (transaction == null) {
+            emit(streams, sink, demand);
+          } else {
+            transaction.executeWithoutResult(status -> emit(streams, sink, demand));
+          }
+          sink.complete();
+        } catch (Throwable e) {
+          sink.error(e);
+        }
+      });
+    });
+  }
+
+  @SneakyThrows
+  private static <T> void emit(Supplier<Stream<T>> streams, FluxSink<T> sink, Demand demand) {
+    try (Stream<T> stream = streams.get()) {
+      Iterator<T> rows = stream.iterator();
+      while (demand.take() && rows.hasNext()) {
+        sink.next(rows.next());
+      }
+    }
+  }
+
+  /**
+   * Outstanding requests of a subscriber. The reading thread waits here until rows are requested or the subscription is cancelled.
+   */
+  private static class Demand {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private long requested;
+    private boolean cancelled;
+
+    void add(long n) {
+      lock.lock();
+      try {
+        requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void cancel() {
+      lock.lock();
+      try {
+        cancelled = true;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * @return false if cancelled, otherwise true once a row has been requested
+     */
+    boolean take() throws InterruptedException {
+      lock.lock();
+      try {
+        while (requested == 0 && !cancelled) {
+          changed.await();
+        }
+        if (cancelled) {
+          return false;
+        }
+        if (requested != Long.MAX_VALUE) {
+          requested--;
+        }
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
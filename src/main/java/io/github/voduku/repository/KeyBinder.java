@@ -0,0 +1,73 @@
+package io.github.voduku.repository;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * // @formatter:off
+ * Split keys into values of id fields. Accessors of {@code @IdClass} components are resolved once per repository so reading a key costs a few reflective
+ * calls instead of converting it into a map.
+ * <br>Simple keys and {@code @EmbeddedId} keys are bound as a whole to their single id field.
+ * // @formatter:on
+ *
+ * @param <KEY> Entity Key Type
+ * @author VuDo
+ * @since 1.3.0
+ */
+final class KeyBinder<KEY> {
+
+  private final List<String> idFields;
+  private final List<Function<Object, Object>> accessors;
+
+  KeyBinder(JpaEntityInformation<?, ?> entityInformation, List<String> idFields) {
+    this.idFields = List.copyOf(idFields);
+    if (idFields.size() == 1) {
+      this.accessors = List.of(Function.identity());
+      return;
+    }
+    Class<?> idType = entityInformation.getIdType();
+    this.accessors = new ArrayList<>(idFields.size());
+    for (String idField : idFields) {
+      accessors.add(accessor(idType, idField));
+    }
+  }
+
+  /**
+   * @param key entity key
+   * @return values of the id fields in their declared order
+   */
+  Map<String, Object> values(KEY key) {
+    if (idFields.size() == 1) {
+      return Map.of(idFields.get(0), key);
+    }
+    Map<String, Object> values = new LinkedHashMap<>(idFields.size() * 2);
+    for (int i = 0; i < idFields.size(); i++) {
+      values.put(idFields.get(i), accessors.get(i).apply(key));
+    }
+    return values;
+  }
+
+  private static Function<Object, Object> accessor(Class<?> idType, String idField) {
+    PropertyDescriptor property = BeanUtils.getPropertyDescriptor(idType, idField);
+    Method getter = property == null ? null : property.getReadMethod();
+    if (getter != null) {
+      ReflectionUtils.makeAccessible(getter);
+      return key -> ReflectionUtils.invokeMethod(getter, key);
+    }
+    Field field = ReflectionUtils.findField(idType, idField);
+    if (field == null) {
+      throw new IllegalStateException("Can't read id field " + idField + " of " + idType.getName());
+    }
+    ReflectionUtils.makeAccessible(field);
+    return key -> ReflectionUtils.getField(field, key);
+  }
+}
@@ -0,0 +1,18 @@
+package io.github.voduku.repository;
+
+import java.util.List;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position of a keyset search. {@link #values} are the raw sort property values of the last seen row or null for the first slice.
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Value
+public class Keyset {
+
+  Sort sort;
+  List<Object> values;
+}
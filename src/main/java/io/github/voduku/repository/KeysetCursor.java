@@ -0,0 +1,111 @@
+package io.github.voduku.repository;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+
+/**
+ * // @formatter:off
+ * Encode and decode opaque continuation tokens for keyset pagination.
+ * <br>A token holds the values of every sort property (id fields included) of the last row in a slice along with a signature of the sort so a token can't be
+ * replayed against a different ordering.
+ * <br>Temporal values are written as ISO-8601 strings with nanoseconds so seeking from a {@link Timestamp} or an {@link Instant} isn't truncated.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+  private static final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules().disable(WRITE_DATES_AS_TIMESTAMPS);
+  private static final TypeReference<List<Object>> valuesType = new TypeReference<>() {};
+
+  /**
+   * Create a token from the sort properties of the given row.
+   *
+   * @param sort keyset sort which includes id fields
+   * @param row  last row of a slice
+   * @return an url-safe token
+   */
+  public static String encode(Sort sort, Object row) {
+    PropertyAccessor accessor = PropertyAccessorFactory.forDirectFieldAccess(row);
+    List<Object> values = new ArrayList<>();
+    values.add(signature(sort));
+    for (Order order : sort) {
+      values.add(precise(accessor.getPropertyValue(order.getProperty())));
+    }
+    try {
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(values));
+    } catch (Exception e) {
+      throw new IllegalStateException("Can't create cursor from sort properties " + sort, e);
+    }
+  }
+
+  /**
+   * Read the sort property values from a token.
+   *
+   * @param sort  keyset sort which the token must be created with
+   * @param token token from {@link #encode(Sort, Object)}
+   * @return raw values in sort order. They are not converted to the property types yet.
+   */
+  public static List<Object> decode(Sort sort, String token) {
+    List<Object> values;
+    try {
+      values = mapper.readValue(Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII)), valuesType);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+    if (values.size() != sort.toList().size() + 1 || !signature(sort).equals(values.get(0))) {
+      throw new IllegalArgumentException("Cursor does not match the requested sort");
+    }
+    return values.subList(1, values.size());
+  }
+
+  /**
+   * Convert a raw value of a token to the type of its sort property
+   *
+   * @param value raw value from {@link #decode(Sort, String)}
+   * @param type  java type of the sort property
+   * @return the value as the given type. Dates are read as {@link Timestamp}s keeping nanoseconds.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T convert(Object value, Class<T> type) {
+    if (value == null || type.isInstance(value)) {
+      return (T) value;
+    }
+    if (value instanceof String && (type == Date.class || type == Timestamp.class)) {
+      return (T) Timestamp.from(Instant.parse((String) value));
+    }
+    return mapper.convertValue(value, type);
+  }
+
+  /**
+   * Dates are written with milliseconds by Jackson. {@link Timestamp}s and {@link Date}s read from timestamp columns (Hibernate returns {@link Timestamp}s)
+   * are written as {@link Instant}s instead.
+   */
+  private static Object precise(Object value) {
+    if (value instanceof Timestamp) {
+      return ((Timestamp) value).toInstant();
+    }
+    return value != null && value.getClass() == Date.class ? ((Date) value).toInstant() : value;
+  }
+
+  private static Integer signature(Sort sort) {
+    return sort.toString().hashCode();
+  }
+}
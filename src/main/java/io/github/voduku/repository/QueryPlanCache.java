@@ -0,0 +1,74 @@
+package io.github.voduku.repository;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * // @formatter:off
+ * Bounded cache of rendered JPQL per {@link QueryShape}. Once full, the oldest plans are evicted first.
+ * <br>Hibernate caches the translation of a JPQL string itself so a hit skips building the criteria tree, rendering it and parsing the JPQL.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class QueryPlanCache {
+
+  private final int maximumSize;
+  private final Map<QueryShape, String> plans = new ConcurrentHashMap<>();
+  private final Queue<QueryShape> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public QueryPlanCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * @param shape query shape
+   * @return cached JPQL or null
+   */
+  public String get(QueryShape shape) {
+    String jpql = plans.get(shape);
+    (jpql == null ? misses : hits).increment();
+    return jpql;
+  }
+
+  public void put(QueryShape shape, String jpql) {
+    if (plans.putIfAbsent(shape, jpql) != null) {
+      return;
+    }
+    insertionOrder.add(shape);
+    while (plans.size() > maximumSize) {
+      QueryShape eldest = insertionOrder.poll();
+      if (eldest == null) {
+        return;
+      }
+      plans.remove(eldest);
+    }
+  }
+
+  public void clear() {
+    plans.clear();
+    insertionOrder.clear();
+  }
+
+  public int size() {
+    return plans.size();
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,27 @@
+package io.github.voduku.repository;
+
+import java.util.List;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+/**
+ * // @formatter:off
+ * Everything that decides how a query looks like except its parameter values. Queries of the same shape render into the same JPQL so they can share a plan in
+ * {@link QueryPlanCache}.
+ * <br>{@link #criteria} holds {@code column:shape} of every criteria creating predicates in iteration order.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Value
+public class QueryShape {
+
+  String kind;
+  List<String> keyFields;
+  List<String> includes;
+  boolean distinct;
+  Sort sort;
+  boolean keyset;
+  List<String> criteria;
+}
@@ -1,10 +1,20 @@
 package io.github.voduku.repository;
 
 import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.CountedPage;
+import io.github.voduku.model.CursorSlice;
+import io.github.voduku.repository.count.CountStrategy;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -21,6 +31,134 @@ public interface Repository<ENTITY, KEY extends Serializable> extends JpaReposit
 
   Class<ENTITY> getEntityClass();
 
+  /**
+   * @return names of the single valued attributes of the entity which aren't ids or versions. Ex: values of {@link #updateByKey(Serializable, Map)}.
+   */
+  Set<String> getUpdatableFields();
+
+  /**
+   * @param entity entity
+   * @return key of the entity
+   */
+  KEY getKey(ENTITY entity);
+
+  /**
+   * Persist new entities with JDBC batching. Entities with assigned keys are not looked up first.
+   *
+   * @param entities  new entities
+   * @param batchSize number of statements per JDBC batch
+   * @return persisted entities
+   */
+  <S extends ENTITY> List<S> insertAll(Iterable<S> entities, int batchSize);
+
+  /**
+   * Persist new entities with JDBC batching. Entities with assigned keys are not looked up first.
+   *
+   * @param entities  new entities
+   * @param batchSize number of statements per JDBC batch
+   * @param clear     whether to clear the persistence context every batch. It detaches every entity of the transaction so leave it off when entities are
+   *                  used afterward. Ex: mapped to responses with lazy associations.
+   * @return persisted entities
+   */
+  <S extends ENTITY> List<S> insertAll(Iterable<S> entities, int batchSize, boolean clear);
+
+  /**
+   * Save entities with JDBC batching
+   *
+   * @param entities  entities to save
+   * @param batchSize number of statements per JDBC batch
+   * @return saved entities
+   */
+  <S extends ENTITY> List<S> saveAll(Iterable<S> entities, int batchSize);
+
+  /**
+   * Save entities with JDBC batching
+   *
+   * @param entities  entities to save
+   * @param batchSize number of statements per JDBC batch
+   * @param clear     whether to clear the persistence context every batch. See {@link #insertAll(Iterable, int, boolean)}.
+   * @return saved entities
+   */
+  <S extends ENTITY> List<S> saveAll(Iterable<S> entities, int batchSize, boolean clear);
+
+  /**
+   * Remove entities with JDBC batching
+   *
+   * @param entities  entities to remove
+   * @param batchSize number of statements per JDBC batch
+   */
+  void deleteAll(Iterable<? extends ENTITY> entities, int batchSize);
+
+  /**
+   * Remove entities with JDBC batching
+   *
+   * @param entities  entities to remove
+   * @param batchSize number of statements per JDBC batch
+   * @param clear     whether to clear the persistence context every batch. See {@link #insertAll(Iterable, int, boolean)}.
+   */
+  void deleteAll(Iterable<? extends ENTITY> entities, int batchSize, boolean clear);
+
+  /**
+   * Delete all entities matching the criteria of the given params with a single statement without loading them. Refuse to run without any criteria.
+   *
+   * @param params filtering params {@link AbstractSearch}
+   * @return number of deleted rows
+   */
+  int deleteBy(AbstractSearch<?> params);
+
+  /**
+   * Update the given fields of all entities matching the criteria of the given params with a single statement without loading them. Refuse to run without any
+   * criteria.
+   *
+   * @param params filtering params {@link AbstractSearch}
+   * @param values new values by field names
+   * @return number of updated rows
+   */
+  int updateBy(AbstractSearch<?> params, Map<String, Object> values);
+
+  /**
+   * Delete the entity with the given key with a single statement without loading it
+   *
+   * @param key entity key
+   * @return number of deleted rows which is 0 if nothing is found
+   */
+  int deleteByKey(KEY key);
+
+  /**
+   * Update the given fields of the entity with the given key with a single statement without loading it
+   *
+   * @param key    entity key
+   * @param values new values by field names
+   * @return number of updated rows which is 0 if nothing is found
+   */
+  int updateByKey(KEY key, Map<String, Object> values);
+
+  /**
+   * Get entities with the given keys with as few queries as possible. Projections of the params apply and key fields are always selected.
+   *
+   * @param keys   entity keys
+   * @param params optional customizing params
+   * @return found entities in the order of the keys. Keys which are not found are skipped.
+   */
+  List<ENTITY> getAll(Collection<KEY> keys, AbstractSearch<?> params);
+
+  /**
+   * @return cache of rendered queries with its hit and miss counters or null if it is disabled
+   */
+  QueryPlanCache getQueryPlanCache();
+
+  /**
+   * @return default strategy computing totals of page searches
+   */
+  CountStrategy getCountStrategy();
+
+  /**
+   * Change how totals of page searches of this repository are computed. Ex: {@code CountStrategy.capped(10_000)}
+   *
+   * @param countStrategy default count strategy
+   */
+  void setCountStrategy(CountStrategy countStrategy);
+
   /**
    * Get an entity with given {@link KEY} with optional functionalities to optimize database request and response
    *
@@ -53,4 +191,73 @@ public interface Repository<ENTITY, KEY extends Serializable> extends JpaReposit
    * @return an updated {@link ENTITY} which is never null other wise throw an exception if something goes wrong in the process. Ex: no entity found for the given key.
    */
   Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable);
+
+  /**
+   * // @formatter:off
+   * Same as {@link #searchPage(AbstractSearch, Pageable)} but the count query runs concurrently with the data query on the given executor.
+   * <br>The count uses its own read-only connection outside of the current transaction.
+   * // @formatter:on
+   *
+   * @param params        filtering params {@link AbstractSearch}
+   * @param pageable      paging for the search
+   * @param countExecutor executor running the count query or null to run both queries serially
+   * @return a {@link Page} of {@link ENTITY} which is never null
+   */
+  Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable, Executor countExecutor);
+
+  /**
+   * Same as {@link #searchPage(AbstractSearch, Pageable)} but the total is computed with the given strategy instead of {@link #getCountStrategy()}.
+   *
+   * @param params        filtering params {@link AbstractSearch}
+   * @param pageable      paging for the search
+   * @param countStrategy strategy computing the total or null to use the default one
+   * @return a {@link CountedPage} of {@link ENTITY} which is never null
+   */
+  Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable, CountStrategy countStrategy);
+
+  /**
+   * Search a {@link CountedPage} with the given count strategy and count executor. See other variants of searchPage.
+   *
+   * @param params        filtering params {@link AbstractSearch}
+   * @param pageable      paging for the search
+   * @param countStrategy strategy computing the total or null to use the default one
+   * @param countExecutor executor running the count query or null to run both queries serially
+   * @return a {@link CountedPage} of {@link ENTITY} which is never null
+   */
+  Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable, CountStrategy countStrategy, Executor countExecutor);
+
+  /**
+   * // @formatter:off
+   * Stream {@link ENTITY} entities filtering by subclasses of {@link AbstractSearch} without loading all of them into memory.
+   * <br>Must be called within a transaction and the stream must be closed once consumed.
+   * // @formatter:on
+   *
+   * @param params filtering params {@link AbstractSearch}
+   * @param sort   sort of the results
+   * @return a lazy {@link Stream} of {@link ENTITY}
+   */
+  Stream<ENTITY> stream(AbstractSearch<?> params, Sort sort);
+
+  /**
+   * Same as {@link #stream(AbstractSearch, Sort)} with the given JDBC fetch size.
+   *
+   * @param params    filtering params {@link AbstractSearch}
+   * @param sort      sort of the results
+   * @param fetchSize number of rows to fetch per round trip
+   * @return a lazy {@link Stream} of {@link ENTITY}
+   */
+  Stream<ENTITY> stream(AbstractSearch<?> params, Sort sort, int fetchSize);
+
+  /**
+   * // @formatter:off
+   * Search a {@link CursorSlice} of {@link ENTITY} entities using keyset (seek) pagination instead of OFFSET.
+   * <br>Use this api to walk through large result sets since every slice costs the same as the first one.
+   * // @formatter:on
+   *
+   * @param params   filtering params {@link AbstractSearch}
+   * @param cursor   cursor from a previous {@link CursorSlice} or null to get the first slice
+   * @param pageable size and sort for the search. Page number is ignored.
+   * @return a {@link CursorSlice} of {@link ENTITY} which is never null
+   */
+  CursorSlice<ENTITY> searchAfter(AbstractSearch<?> params, String cursor, Pageable pageable);
 }
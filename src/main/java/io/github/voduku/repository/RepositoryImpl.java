@@ -5,32 +5,79 @@ import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.voduku.model.AbstractEntity;
 import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.BaseEntity;
+import io.github.voduku.model.CountedPage;
+import io.github.voduku.model.CursorSlice;
+import io.github.voduku.model.Metadata;
+import io.github.voduku.model.Projection;
+import io.github.voduku.model.criteria.CriteriaHandler;
+import io.github.voduku.model.criteria.CriteriaParameters;
+import io.github.voduku.model.criteria.ParameterizedCriteriaHandler;
 import io.github.voduku.model.criteria.SearchCriteria;
+import io.github.voduku.repository.count.CountStrategy;
+import io.github.voduku.repository.count.Counter;
+import io.github.voduku.repository.count.TableStatistics;
+import io.github.voduku.repository.count.Total;
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.persistence.EntityListeners;
 import javax.persistence.EntityManager;
+import javax.persistence.Parameter;
 import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CommonAbstractCriteria;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.QueryHints;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -39,8 +86,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * // @formatter:off Provide a an approach which utilize Criteria APIs to create HQL queries and perform executions You can override any method to change query
@@ -63,13 +115,47 @@ public class RepositoryImpl<ENTITY, KEY extends Serializable> extends SimpleJpaR
       .disable(FAIL_ON_UNKNOWN_PROPERTIES)
       .disable(FAIL_ON_EMPTY_BEANS)
       .enable(WRITE_DATES_AS_TIMESTAMPS);
-  private static final TypeReference<LinkedHashMap<String, Object>> keyMapType = new TypeReference<>() {};
+  private static final String MODIFIED_AT = AbstractEntity.Fields.modifiedAt.name();
+  private static final String MODIFIED_BY = AbstractEntity.Fields.modifiedBy.name();
+  private static final Set<String> QUERY_CREATION_METHODS = Set.of("select", "customSelect", "count", "criteria", "tupleCriteria", "countCriteria",
+      "keysetCriteria", "parameterizedCriteria", "criteriaSql", "getPredicates", "groupBy", "fansOut", "orderBy", "orders", "getKeysetPredicate");
   // @formatter:on
+  private static final String KEY_PARAMETERS = "key";
+  private static final String KEYSET_PARAMETERS = "keyset";
+  private final JpaEntityInformation<ENTITY, ?> entityInformation;
   private final Class<ENTITY> clazz;
   private final String entityName;
   private final List<String> idFields = new ArrayList<>();
+  private Set<String> updatableFields;
+  private final KeyBinder<KEY> keyBinder;
   private final EntityManager em;
   private final CriteriaBuilderImpl cb;
+  private final Map<Object, Function<Object[], ENTITY>> tupleMappers = new ConcurrentHashMap<>();
+  private final Queue<Object> tupleMapperOrder = new ConcurrentLinkedQueue<>();
+  /**
+   * Maximum number of distinct includes sets to keep compiled mappers for. Includes come from clients so the cache must be bounded. Once full, the oldest
+   * mappers are evicted first.
+   */
+  protected int tupleMapperCacheSize = 256;
+  /**
+   * // @formatter:off
+   * Rendered queries per {@link QueryShape}. Disabled (null) by default when a subclass overrides any method creating queries. Set it to null to disable or
+   * to a new {@link QueryPlanCache} with a different size.
+   * // @formatter:on
+   */
+  protected QueryPlanCache queryPlanCache;
+  /**
+   * Default strategy computing totals of {@link #searchPage(AbstractSearch, Pageable)}
+   */
+  protected CountStrategy countStrategy = CountStrategy.exact();
+  /**
+   * Default JDBC fetch size of {@link #stream(AbstractSearch, Sort)}
+   */
+  protected int streamFetchSize = 1000;
+  /**
+   * Maximum number of keys per query of {@link #findAllById(Iterable)}
+   */
+  protected int keyChunkSize = 500;
 
   /**
    * Initialize the class with necessary info to perform query creation. Using this should not be too bad since it only run once. This takes ~0.0001 seconds to
@@ -78,16 +164,238 @@ public class RepositoryImpl<ENTITY, KEY extends Serializable> extends SimpleJpaR
   public RepositoryImpl(JpaEntityInformation<ENTITY, ?> entityInformation, EntityManager em) {
     super(entityInformation, em);
     this.em = em;
+    this.entityInformation = entityInformation;
     this.cb = (CriteriaBuilderImpl) em.getCriteriaBuilder();
     this.clazz = entityInformation.getJavaType();
     this.entityName = entityInformation.getEntityName();
     entityInformation.getIdAttributeNames().forEach(idFields::add);
+    this.keyBinder = new KeyBinder<>(entityInformation, idFields);
+    this.queryPlanCache = overridesQueryCreation(getClass()) ? null : new QueryPlanCache(512);
   }
 
   public Class<ENTITY> getEntityClass() {
     return this.clazz;
   }
 
+  public Set<String> getUpdatableFields() {
+    if (updatableFields == null) {
+      updatableFields = em.getMetamodel().entity(clazz).getSingularAttributes().stream()
+          .filter(attribute -> !attribute.isId() && !attribute.isVersion())
+          .map(Attribute::getName)
+          .collect(Collectors.toUnmodifiableSet());
+    }
+    return updatableFields;
+  }
+
+  @SuppressWarnings("unchecked")
+  public KEY getKey(ENTITY entity) {
+    return (KEY) entityInformation.getId(entity);
+  }
+
+  /**
+   * Find all entities with the given keys using as few queries as possible. Keys are split into chunks of {@link #keyChunkSize} and each chunk is found with
+   * a single query, including composite keys.
+   *
+   * @param ids entity keys
+   * @return found entities in no particular order
+   */
+  @Override
+  public List<ENTITY> findAllById(Iterable<KEY> ids) {
+    List<KEY> keys = new ArrayList<>();
+    ids.forEach(keys::add);
+    List<ENTITY> results = new ArrayList<>(keys.size());
+    for (int from = 0; from < keys.size(); from += keyChunkSize) {
+      List<KEY> chunk = keys.subList(from, Math.min(from + keyChunkSize, keys.size()));
+      CriteriaQuery<ENTITY> cq = cb.createQuery(clazz);
+      Root<ENTITY> root = cq.from(clazz);
+      results.addAll(em.createQuery(cq.select(root).where(getKeysPredicate(root, chunk))).getResultList());
+    }
+    return results;
+  }
+
+  /**
+   * // @formatter:off
+   * Persist new entities with JDBC batching. The persistence context is flushed and cleared every batch so memory stays flat, which also detaches entities
+   * loaded earlier in the transaction.
+   * <br>Unlike {@link #saveAll(Iterable)}, entities with assigned keys are not looked up first. Entities with existing keys fail on flush.
+   * <br>Hibernate can't batch inserts of entities using {@code GenerationType.IDENTITY}.
+   * // @formatter:on
+   *
+   * @param entities  new entities
+   * @param batchSize number of statements per JDBC batch
+   * @return persisted entities
+   */
+  @Transactional
+  public <S extends ENTITY> List<S> insertAll(Iterable<S> entities, int batchSize) {
+    return insertAll(entities, batchSize, true);
+  }
+
+  /**
+   * Same as {@link #insertAll(Iterable, int)}. The persistence context is only flushed every batch unless {@code clear} is true.
+   *
+   * @param entities  new entities
+   * @param batchSize number of statements per JDBC batch
+   * @param clear     whether to clear the persistence context every batch
+   * @return persisted entities
+   */
+  @Transactional
+  public <S extends ENTITY> List<S> insertAll(Iterable<S> entities, int batchSize, boolean clear) {
+    return inBatches(entities, batchSize, clear, entity -> {
+      em.persist(entity);
+      return entity;
+    });
+  }
+
+  /**
+   * Same as {@link #saveAll(Iterable)} with JDBC batching. The persistence context is flushed and cleared every batch.
+   *
+   * @param entities  entities to save
+   * @param batchSize number of statements per JDBC batch
+   * @return saved entities
+   */
+  @Transactional
+  public <S extends ENTITY> List<S> saveAll(Iterable<S> entities, int batchSize) {
+    return saveAll(entities, batchSize, true);
+  }
+
+  /**
+   * Same as {@link #saveAll(Iterable)} with JDBC batching. The persistence context is only flushed every batch unless {@code clear} is true.
+   *
+   * @param entities  entities to save
+   * @param batchSize number of statements per JDBC batch
+   * @param clear     whether to clear the persistence context every batch
+   * @return saved entities
+   */
+  @Transactional
+  public <S extends ENTITY> List<S> saveAll(Iterable<S> entities, int batchSize, boolean clear) {
+    return inBatches(entities, batchSize, clear, this::save);
+  }
+
+  /**
+   * Remove the given entities with JDBC batching. The persistence context is flushed and cleared every batch.
+   *
+   * @param entities  entities to remove
+   * @param batchSize number of statements per JDBC batch
+   */
+  @Transactional
+  public void deleteAll(Iterable<? extends ENTITY> entities, int batchSize) {
+    deleteAll(entities, batchSize, true);
+  }
+
+  /**
+   * Remove the given entities with JDBC batching. The persistence context is only flushed every batch unless {@code clear} is true.
+   *
+   * @param entities  entities to remove
+   * @param batchSize number of statements per JDBC batch
+   * @param clear     whether to clear the persistence context every batch
+   */
+  @Transactional
+  public void deleteAll(Iterable<? extends ENTITY> entities, int batchSize, boolean clear) {
+    inBatches(entities, batchSize, clear, entity -> {
+      em.remove(em.contains(entity) ? entity : em.merge(entity));
+      return entity;
+    });
+  }
+
+  /**
+   * // @formatter:off
+   * Delete all entities matching the criteria of the given params with a single statement. Entities are not loaded so entity listeners and cascades don't
+   * apply and entities already loaded in the current persistence context are not updated.
+   * <br>Refuse to run without any criteria. Use {@link #deleteAllInBatch()} to delete everything.
+   * // @formatter:on
+   *
+   * @param params filtering params {@link AbstractSearch}
+   * @return number of deleted rows
+   */
+  @Transactional
+  public int deleteBy(AbstractSearch<?> params) {
+    return deleteWhere(root -> getRequiredPredicates(root, params));
+  }
+
+  /**
+   * Delete the entity with the given key with a single statement without loading it. Entity listeners and cascades don't apply.
+   *
+   * @param key entity key
+   * @return number of deleted rows which is 0 if nothing is found
+   */
+  @Transactional
+  public int deleteByKey(KEY key) {
+    return deleteWhere(root -> getKeyPredicates(root, getKeyValues(key), null).toArray(Predicate[]::new));
+  }
+
+  /**
+   * // @formatter:off
+   * Update the given fields of all entities matching the criteria of the given params with a single statement. Entities are not loaded so entity listeners
+   * don't apply and entities already loaded in the current persistence context are not updated. {@code modifiedAt} and {@code modifiedBy} of entities using
+   * the {@link Metadata} listener are still updated unless they are given. The {@link javax.persistence.Version} of versioned entities is incremented unless
+   * it is given so stale copies of updated entities fail optimistic locking.
+   * <br>Refuse to run without any criteria.
+   * // @formatter:on
+   *
+   * @param params filtering params {@link AbstractSearch}
+   * @param values new values by field names. Values are converted into field types. Ex: a number into a {@link java.util.Date}
+   * @return number of updated rows
+   */
+  @Transactional
+  public int updateBy(AbstractSearch<?> params, Map<String, Object> values) {
+    return updateWhere(values, root -> getRequiredPredicates(root, params));
+  }
+
+  /**
+   * Update the given fields of the entity with the given key with a single statement without loading it. Metadata and version are updated the same way as
+   * {@link #updateBy(AbstractSearch, Map)}.
+   *
+   * @param key    entity key
+   * @param values new values by field names
+   * @return number of updated rows which is 0 if nothing is found
+   */
+  @Transactional
+  public int updateByKey(KEY key, Map<String, Object> values) {
+    return updateWhere(values, root -> getKeyPredicates(root, getKeyValues(key), null).toArray(Predicate[]::new));
+  }
+
+  private int deleteWhere(Function<Root<ENTITY>, Predicate[]> predicates) {
+    CriteriaDelete<ENTITY> cd = cb.createCriteriaDelete(clazz);
+    Root<ENTITY> root = cd.from(clazz);
+    return em.createQuery(cd.where(predicates.apply(root))).executeUpdate();
+  }
+
+  private int updateWhere(Map<String, Object> values, Function<Root<ENTITY>, Predicate[]> predicates) {
+    if (CollectionUtils.isEmpty(values)) {
+      throw new IllegalArgumentException("Nothing to update");
+    }
+    CriteriaUpdate<ENTITY> cu = cb.createCriteriaUpdate(clazz);
+    Root<ENTITY> root = cu.from(clazz);
+    values.forEach((field, value) -> set(cu, root, field, value));
+    if (hasMetadata()) {
+      if (!values.containsKey(MODIFIED_AT)) {
+        set(cu, root, MODIFIED_AT, new Timestamp(System.currentTimeMillis()));
+      }
+      if (!values.containsKey(MODIFIED_BY)) {
+        set(cu, root, MODIFIED_BY, Metadata.getActorId());
+      }
+    }
+    em.getMetamodel().entity(clazz).getSingularAttributes().stream()
+        .filter(attribute -> attribute.isVersion() && !values.containsKey(attribute.getName()))
+        .findFirst()
+        .ifPresent(version -> incrementVersion(cu, root, version.getName()));
+    return em.createQuery(cu.where(predicates.apply(root))).executeUpdate();
+  }
+
+  /**
+   * Increment numeric versions by one and set temporal versions to the current time the same way as Hibernate does for versioned entities
+   */
+  @SuppressWarnings("unchecked")
+  private void incrementVersion(CriteriaUpdate<ENTITY> cu, Root<ENTITY> root, String field) {
+    Path<Number> path = root.get(field);
+    Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(path.getJavaType());
+    if (Number.class.isAssignableFrom(type)) {
+      cu.set(path, cb.sum(path, NumberUtils.convertNumberToTargetClass(1, (Class<Number>) type)));
+    } else {
+      set(cu, root, field, new Timestamp(System.currentTimeMillis()));
+    }
+  }
+
   /**
    * Get an entity with given {@link KEY} with optional functionalities to optimize database request and response
    *
@@ -99,6 +407,28 @@ public class RepositoryImpl<ENTITY, KEY extends Serializable> extends SimpleJpaR
     return getEntity(key, params);
   }
 
+  /**
+   * // @formatter:off
+   * Get entities with the given keys using a single query per {@link #keyChunkSize} keys. Projections of the params apply and key fields are always selected.
+   * <br>Criteria of the params filter the entities further.
+   * // @formatter:on
+   *
+   * @param keys   entity keys
+   * @param params optional customizing params
+   * @return found entities in the order of the keys. Keys which are not found are skipped.
+   */
+  public List<ENTITY> getAll(Collection<KEY> keys, AbstractSearch<?> params) {
+    List<KEY> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+    Map<KEY, ENTITY> found = new HashMap<>();
+    for (int from = 0; from < distinctKeys.size(); from += keyChunkSize) {
+      List<KEY> chunk = distinctKeys.subList(from, Math.min(from + keyChunkSize, distinctKeys.size()));
+      List<ENTITY> entities = params == null ? findAllById(chunk)
+          : CollectionUtils.isEmpty(params.getExcludes()) ? getAllByKeys(chunk, params) : customGetAllByKeys(chunk, params);
+      entities.forEach(entity -> found.put(getKey(entity), entity));
+    }
+    return keys.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
   /**
    * // @formatter:off Search a {@link Slice} of {@link ENTITY} entities filtering by subclasses of {@link AbstractSearch} with options to customize response to
    * get only what is needed all the way to database and back.
@@ -128,70 +458,522 @@ public class RepositoryImpl<ENTITY, KEY extends Serializable> extends SimpleJpaR
    * given key.
    */
   public Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable) {
-    return PageableExecutionUtils.getPage(findEntities(params, pageable), pageable, () -> count(params));
+    return searchPage(params, pageable, null, null);
   }
 
-  protected List<ENTITY> findEntities(AbstractSearch<?> params, Pageable pageable) {
-    return CollectionUtils.isEmpty(params.getExcludes()) ? findAll(params, pageable) : customFindAll(params, pageable);
+  /**
+   * // @formatter:off
+   * Same as {@link #searchPage(AbstractSearch, Pageable)} but the count query runs on the given executor with its own read-only {@link EntityManager} while
+   * the data query runs on the current thread, so the latency is about the slower of the two instead of their sum.
+   * <br>The count doesn't take part in the current transaction. It won't see uncommitted changes of the current transaction and uses one more connection.
+   * // @formatter:on
+   *
+   * @param params        filtering params {@link AbstractSearch}
+   * @param pageable      paging for the search
+   * @param countExecutor executor running the count query or null to run it after the data query on the current thread
+   * @return a {@link Page} of {@link ENTITY} which is never null
+   */
+  public Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable, Executor countExecutor) {
+    return searchPage(params, pageable, null, countExecutor);
   }
 
-  protected ENTITY getEntity(KEY key, AbstractSearch<?> params) {
-    return CollectionUtils.isEmpty(params.getExcludes()) ? getByKey(key, params) : customGetByKey(key, params);
+  /**
+   * Same as {@link #searchPage(AbstractSearch, Pageable)} but the total is counted with the given strategy instead of {@link #countStrategy}.
+   *
+   * @param params        filtering params {@link AbstractSearch}
+   * @param pageable      paging for the search
+   * @param countStrategy strategy computing the total or null to use {@link #countStrategy}
+   * @return a {@link CountedPage} of {@link ENTITY} which is never null
+   */
+  public Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable, CountStrategy countStrategy) {
+    return searchPage(params, pageable, countStrategy, null);
   }
 
-  protected ENTITY getByKey(KEY key, AbstractSearch<?> params) {
+  /**
+   * // @formatter:off
+   * Search a {@link CountedPage} of {@link ENTITY} entities. The total is computed by the given {@link CountStrategy} on the given executor.
+   * <br>Like {@link PageableExecutionUtils#getPage}, nothing is counted when the total can be deduced from the content. Ex: the last page.
+   * // @formatter:on
+   *
+   * @param params        filtering params {@link AbstractSearch}
+   * @param pageable      paging for the search
+   * @param countStrategy strategy computing the total or null to use {@link #countStrategy}
+   * @param countExecutor executor running the count query or null to run it after the data query on the current thread
+   * @return a {@link CountedPage} of {@link ENTITY} which is never null
+   */
+  public Page<ENTITY> searchPage(AbstractSearch<?> params, Pageable pageable, CountStrategy countStrategy, Executor countExecutor) {
+    CountStrategy strategy = countStrategy != null ? countStrategy : this.countStrategy;
+    if (countExecutor == null || pageable.isUnpaged()) {
+      return page(findEntities(params, pageable), pageable, () -> strategy.count(new SearchCounter(params, em)));
+    }
+    AtomicBoolean cancelled = new AtomicBoolean();
+    AtomicReference<EntityManager> counting = new AtomicReference<>();
+    CompletableFuture<Total> total = CompletableFuture.supplyAsync(() -> readOnly(entityManager -> {
+      counting.set(entityManager);
+      try {
+        if (cancelled.get()) {
+          throw new CancellationException();
+        }
+        return strategy.count(new SearchCounter(params, entityManager));
+      } finally {
+        counting.set(null);
+      }
+    }), countExecutor);
+    try {
+      List<ENTITY> content = findEntities(params, pageable);
+      return page(content, pageable, () -> join(total));
+    } finally {
+      if (!total.isDone()) {
+        // the total isn't needed anymore. Ex: the data query failed or the total was deduced from the content
+        cancelled.set(true);
+        total.cancel(false);
+        cancelQuery(counting.get());
+      }
+    }
+  }
+
+  /**
+   * Cancel the statement running on the given entity manager from another thread so its connection is released early
+   */
+  private static void cancelQuery(EntityManager entityManager) {
+    if (entityManager == null) {
+      return;
+    }
+    try {
+      entityManager.unwrap(Session.class).cancelQuery();
+    } catch (RuntimeException e) {
+      log.debug("Can't cancel count query", e);
+    }
+  }
+
+  /**
+   * // @formatter:off
+   * Search a {@link CursorSlice} of {@link ENTITY} entities using keyset (seek) pagination. Rows are ordered by the requested sort followed by the id fields
+   * and the next slice starts right after the row the cursor was created from, so deep slices cost the same as the first one.
+   * <br>Page number of {@link Pageable} is ignored. Sort properties should be non-nullable columns for the cursor to work correctly.
+   * // @formatter:on
+   *
+   * @param params   filtering params {@link AbstractSearch}
+   * @param cursor   cursor from a previous {@link CursorSlice#getNextCursor()} or null to get the first slice
+   * @param pageable size and sort for the search
+   * @return a {@link CursorSlice} of {@link ENTITY} which is never null
+   */
+  public CursorSlice<ENTITY> searchAfter(AbstractSearch<?> params, String cursor, Pageable pageable) {
+    if (pageable.isUnpaged()) {
+      throw new IllegalArgumentException("Keyset pagination requires a page size");
+    }
+    Sort sort = keysetSort(pageable.getSort());
+    Keyset keyset = new Keyset(sort, StringUtils.hasText(cursor) ? keysetValues(sort, KeysetCursor.decode(sort, cursor)) : null);
+    int size = pageable.getPageSize();
+    List<ENTITY> results = CollectionUtils.isEmpty(params.getExcludes()) ? findAll(params, keyset, size + 1) : customFindAll(params, keyset, size + 1);
+    boolean hasNext = results.size() > size;
+    List<ENTITY> content = hasNext ? results.subList(0, size) : results;
+    String nextCursor = hasNext ? KeysetCursor.encode(sort, content.get(content.size() - 1)) : null;
+    return new CursorSlice<>(content, size, hasNext, nextCursor);
+  }
+
+  /**
+   * // @formatter:off
+   * Stream {@link ENTITY} entities filtering by subclasses of {@link AbstractSearch} without loading them all into memory. Rows are read from a cursor
+   * {@link #streamFetchSize} at a time and the persistence context is cleared every {@link #streamFetchSize} rows, so entities read earlier are detached.
+   * <br>Must be called within a transaction and the stream must be closed once consumed. Ex: try-with-resources.
+   * // @formatter:on
+   *
+   * @param params filtering params {@link AbstractSearch}
+   * @param sort   sort of the results
+   * @return a lazy {@link Stream} of {@link ENTITY}
+   */
+  @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+  public Stream<ENTITY> stream(AbstractSearch<?> params, Sort sort) {
+    return stream(params, sort, streamFetchSize);
+  }
+
+  /**
+   * Same as {@link #stream(AbstractSearch, Sort)} with the given JDBC fetch size.
+   *
+   * @param params    filtering params {@link AbstractSearch}
+   * @param sort      sort of the results
+   * @param fetchSize number of rows to fetch per round trip. This is also the number of rows kept in the persistence context.
+   * @return a lazy {@link Stream} of {@link ENTITY}
+   */
+  @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+  public Stream<ENTITY> stream(AbstractSearch<?> params, Sort sort, int fetchSize) {
+    if (fetchSize <= 0) {
+      throw new IllegalArgumentException("Fetch size must be positive");
+    }
+    return CollectionUtils.isEmpty(params.getExcludes()) ? streamAll(params, sort, fetchSize) : customStreamAll(params, sort, fetchSize);
+  }
+
+  protected List<ENTITY> findEntities(AbstractSearch<?> params, Pageable pageable) {
+    return CollectionUtils.isEmpty(params.getExcludes()) ? findAll(params, pageable) : customFindAll(params, pageable);
+  }
+
+  protected List<ENTITY> getAllByKeys(List<KEY> keys, AbstractSearch<?> params) {
     CriteriaQuery<ENTITY> cq = cb.createQuery(clazz);
     Root<ENTITY> root = cq.from(clazz);
     cq = select(cq, root, params.isDistinct());
-    cq = criteria(cq, root, key, params);
-    cq = groupBy(cq, root);
-    return em.createQuery(cq).getSingleResult();
+    cq = criteria(cq, root, params);
+    cq = cq.where(cb.and(cq.getRestriction() == null ? cb.conjunction() : cq.getRestriction(), getKeysPredicate(root, keys)));
+    return em.createQuery(groupBy(cq, root)).getResultList();
   }
 
-  protected ENTITY customGetByKey(KEY key, AbstractSearch<?> params) {
-    Set<String> includes = params.getIncludes();
+  protected List<ENTITY> customGetAllByKeys(List<KEY> keys, AbstractSearch<?> params) {
+    Set<String> includes = includes(params, idFields);
     CriteriaQuery<Tuple> cq = cb.createTupleQuery();
     Root<ENTITY> root = cq.from(clazz);
     cq = customSelect(cq, root, includes, params.isDistinct());
-    cq = tupleCriteria(cq, root, key, params);
-    TypedQuery<Tuple> query = em.createQuery(cq);
+    cq = tupleCriteria(cq, root, params);
+    cq = cq.where(cb.and(cq.getRestriction() == null ? cb.conjunction() : cq.getRestriction(), getKeysPredicate(root, keys)));
+    return em.createQuery(cq).getResultList().stream()
+        .map(rowMapper(includes))
+        .collect(Collectors.toList());
+  }
+
+  protected ENTITY getEntity(KEY key, AbstractSearch<?> params) {
+    return CollectionUtils.isEmpty(params.getExcludes()) ? getByKey(key, params) : customGetByKey(key, params);
+  }
+
+  protected ENTITY getByKey(KEY key, AbstractSearch<?> params) {
+    QueryShape shape = shape("getByKey", key, params, null, null, null);
+    return createQuery(clazz, shape, key, params, null, parameters -> {
+      CriteriaQuery<ENTITY> cq = cb.createQuery(clazz);
+      Root<ENTITY> root = cq.from(clazz);
+      cq = select(cq, root, params.isDistinct());
+      cq = parameters == null ? criteria(cq, root, key, params) : parameterizedCriteria(cq, root, key, params, null, parameters);
+      return groupBy(cq, root);
+    }).getSingleResult();
+  }
+
+  protected ENTITY customGetByKey(KEY key, AbstractSearch<?> params) {
+    Set<String> includes = includes(params, List.of());
+    QueryShape shape = shape("customGetByKey", key, params, includes, null, null);
+    TypedQuery<Tuple> query = createQuery(Tuple.class, shape, key, params, null, parameters -> {
+      CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+      Root<ENTITY> root = cq.from(clazz);
+      cq = customSelect(cq, root, includes, params.isDistinct());
+      return parameters == null ? tupleCriteria(cq, root, key, params) : parameterizedCriteria(cq, root, key, params, null, parameters);
+    });
     return mapRowToObject(includes, query.getSingleResult(), clazz);
   }
 
   protected List<ENTITY> findAll(AbstractSearch<?> params, Pageable pageable) {
-    CriteriaQuery<ENTITY> cq = cb.createQuery(clazz);
-    Root<ENTITY> root = cq.from(clazz);
-    cq = select(cq, root, params.isDistinct());
-    cq = criteria(cq, root, params);
-    cq = groupBy(cq, root);
-    cq = orderBy(cq, root, pageable.getSort());
-    TypedQuery<ENTITY> query = em.createQuery(cq);
+    QueryShape shape = shape("findAll", null, params, null, pageable.getSort(), null);
+    TypedQuery<ENTITY> query = createQuery(clazz, shape, null, params, null, parameters -> {
+      CriteriaQuery<ENTITY> cq = cb.createQuery(clazz);
+      Root<ENTITY> root = cq.from(clazz);
+      cq = select(cq, root, params.isDistinct());
+      cq = parameters == null ? criteria(cq, root, params) : parameterizedCriteria(cq, root, null, params, null, parameters);
+      cq = groupBy(cq, root);
+      return orderBy(cq, root, pageable.getSort());
+    });
     query.setFirstResult((int) pageable.getOffset());
     query.setMaxResults(pageable.getPageSize());
     return query.getResultList();
   }
 
   protected List<ENTITY> customFindAll(AbstractSearch<?> params, Pageable pageable) {
-    Set<String> includes = params.getIncludes();
-    CriteriaQuery<Tuple> cq = cb.createTupleQuery();
-    Root<ENTITY> root = cq.from(clazz);
-    cq = customSelect(cq, root, includes, params.isDistinct());
-    cq = tupleCriteria(cq, root, params);
-    TypedQuery<Tuple> query = em.createQuery(cq);
+    Set<String> includes = includes(params, List.of());
+    QueryShape shape = shape("customFindAll", null, params, includes, null, null);
+    TypedQuery<Tuple> query = createQuery(Tuple.class, shape, null, params, null, parameters -> {
+      CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+      Root<ENTITY> root = cq.from(clazz);
+      cq = customSelect(cq, root, includes, params.isDistinct());
+      return parameters == null ? tupleCriteria(cq, root, params) : parameterizedCriteria(cq, root, null, params, null, parameters);
+    });
     query.setFirstResult((int) pageable.getOffset());
     query.setMaxResults(pageable.getPageSize());
     return query.getResultList().stream()
-        .map(tuple -> mapRowToObject(includes, tuple, clazz))
+        .map(rowMapper(includes))
+        .collect(Collectors.toList());
+
+  }
+
+  protected List<ENTITY> findAll(AbstractSearch<?> params, Keyset keyset, int limit) {
+    QueryShape shape = shape("findAll", null, params, null, keyset.getSort(), keyset);
+    TypedQuery<ENTITY> query = createQuery(clazz, shape, null, params, keyset, parameters -> {
+      CriteriaQuery<ENTITY> cq = cb.createQuery(clazz);
+      Root<ENTITY> root = cq.from(clazz);
+      cq = select(cq, root, params.isDistinct());
+      cq = parameters == null ? keysetCriteria(cq, root, params, keyset) : parameterizedCriteria(cq, root, null, params, keyset, parameters);
+      cq = groupBy(cq, root);
+      return orderBy(cq, root, keyset.getSort());
+    });
+    query.setMaxResults(limit);
+    return query.getResultList();
+  }
+
+  protected List<ENTITY> customFindAll(AbstractSearch<?> params, Keyset keyset, int limit) {
+    Set<String> includes = includes(params, keyset.getSort().stream().map(Sort.Order::getProperty).collect(Collectors.toList()));
+    QueryShape shape = shape("customFindAll", null, params, includes, keyset.getSort(), keyset);
+    TypedQuery<Tuple> query = createQuery(Tuple.class, shape, null, params, keyset, parameters -> {
+      CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+      Root<ENTITY> root = cq.from(clazz);
+      cq = customSelect(cq, root, includes, params.isDistinct());
+      cq = parameters == null ? keysetCriteria(cq, root, params, keyset) : parameterizedCriteria(cq, root, null, params, keyset, parameters);
+      return cq.orderBy(orders(root, keyset.getSort()));
+    });
+    query.setMaxResults(limit);
+    return query.getResultList().stream()
+        .map(rowMapper(includes))
         .collect(Collectors.toList());
+  }
 
+  protected Stream<ENTITY> streamAll(AbstractSearch<?> params, Sort sort, int fetchSize) {
+    QueryShape shape = shape("findAll", null, params, null, sort, null);
+    TypedQuery<ENTITY> query = createQuery(clazz, shape, null, params, null, parameters -> {
+      CriteriaQuery<ENTITY> cq = cb.createQuery(clazz);
+      Root<ENTITY> root = cq.from(clazz);
+      cq = select(cq, root, params.isDistinct());
+      cq = parameters == null ? criteria(cq, root, params) : parameterizedCriteria(cq, root, null, params, null, parameters);
+      cq = groupBy(cq, root);
+      return orderBy(cq, root, sort);
+    });
+    return scroll(query, fetchSize);
+  }
+
+  protected Stream<ENTITY> customStreamAll(AbstractSearch<?> params, Sort sort, int fetchSize) {
+    Set<String> includes = includes(params, List.of());
+    QueryShape shape = shape("customFindAll", null, params, includes, sort, null);
+    TypedQuery<Tuple> query = createQuery(Tuple.class, shape, null, params, null, parameters -> {
+      CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+      Root<ENTITY> root = cq.from(clazz);
+      cq = customSelect(cq, root, includes, params.isDistinct());
+      cq = parameters == null ? tupleCriteria(cq, root, params) : parameterizedCriteria(cq, root, null, params, null, parameters);
+      return sort == null || sort.isUnsorted() ? cq : cq.orderBy(orders(root, sort));
+    });
+    return scroll(query, fetchSize).map(rowMapper(includes));
+  }
+
+  /**
+   * // @formatter:off
+   * Fields to select for the params with the given extra fields. This is the {@link Projection} of the params so equal projections share query plans and
+   * tuple mappers whatever the order of their includes. Includes are copied as is if any of them isn't a field of the entity.
+   * // @formatter:on
+   */
+  private Set<String> includes(AbstractSearch<?> params, Collection<String> extra) {
+    Projection projection = params.getProjection();
+    projection = projection == null || extra.isEmpty() ? projection : projection.with(extra);
+    if (projection != null) {
+      return projection;
+    }
+    Set<String> includes = new LinkedHashSet<>(params.getIncludes());
+    includes.addAll(extra);
+    return includes;
+  }
+
+  /**
+   * Stream results of the query with the given fetch size. The persistence context is cleared every fetch size rows right before reading the next row.
+   */
+  protected <T> Stream<T> scroll(TypedQuery<T> query, int fetchSize) {
+    query.setHint(QueryHints.HINT_FETCH_SIZE, fetchSize);
+    query.setHint(QueryHints.HINT_READONLY, true);
+    Stream<T> results = query.getResultStream();
+    Iterator<T> rows = results.iterator();
+    Iterator<T> clearing = new Iterator<>() {
+      private long read;
+
+      @Override
+      public boolean hasNext() {
+        if (read > 0 && read % fetchSize == 0) {
+          em.clear();
+          read = 0;
+        }
+        return rows.hasNext();
+      }
+
+      @Override
+      public T next() {
+        T row = rows.next();
+        read++;
+        return row;
+      }
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(clearing, Spliterator.ORDERED), false).onClose(results::close);
   }
 
   protected long count(AbstractSearch<?> params) {
-    CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-    Root<ENTITY> root = cq.from(clazz);
-    cq = count(cq, root);
-    cq = countCriteria(cq, root, params);
-    return em.createQuery(cq).getSingleResult();
+    return count(params, em);
+  }
+
+  protected long count(AbstractSearch<?> params, EntityManager entityManager) {
+    QueryShape shape = shape("count", null, params, null, null, null);
+    return createQuery(entityManager, Long.class, shape, null, params, null, parameters -> {
+      CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+      Root<ENTITY> root = cq.from(clazz);
+      cq = count(cq, root);
+      return parameters == null ? countCriteria(cq, root, params) : parameterizedCriteria(cq, root, null, params, null, parameters);
+    }).getSingleResult();
+  }
+
+  /**
+   * Count results but stop at the given limit. Ids of up to limit rows are fetched to do so.
+   */
+  protected long countUpTo(AbstractSearch<?> params, long limit, EntityManager entityManager) {
+    QueryShape shape = shape("countUpTo", null, params, null, null, null);
+    TypedQuery<Tuple> query = createQuery(entityManager, Tuple.class, shape, null, params, null, parameters -> {
+      CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+      Root<ENTITY> root = cq.from(clazz);
+      cq = customSelect(cq, root, new LinkedHashSet<>(idFields), params.isDistinct());
+      return parameters == null ? tupleCriteria(cq, root, params) : parameterizedCriteria(cq, root, null, params, null, parameters);
+    });
+    query.setMaxResults((int) Math.min(limit, Integer.MAX_VALUE));
+    return query.getResultList().size();
+  }
+
+  protected Page<ENTITY> page(List<ENTITY> content, Pageable pageable, Supplier<Total> total) {
+    if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+      if (pageable.isUnpaged() || pageable.getPageSize() > content.size()) {
+        return new CountedPage<>(content, pageable, content.size(), true);
+      }
+    } else if (!content.isEmpty() && pageable.getPageSize() > content.size()) {
+      return new CountedPage<>(content, pageable, pageable.getOffset() + content.size(), true);
+    }
+    Total counted = total.get();
+    return new CountedPage<>(content, pageable, counted.getValue(), counted.isExact());
+  }
+
+  /**
+   * Run the given work with a new read-only {@link EntityManager} which is closed right after. Used to query on another thread.
+   */
+  protected <T> T readOnly(Function<EntityManager, T> work) {
+    EntityManager entityManager = em.getEntityManagerFactory().createEntityManager();
+    try {
+      Session session = entityManager.unwrap(Session.class);
+      session.setDefaultReadOnly(true);
+      session.setHibernateFlushMode(FlushMode.MANUAL);
+      return work.apply(entityManager);
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * // @formatter:off
+   * Describe the query about to be created so it can share a rendered plan with other queries of the same shape.
+   * // @formatter:on
+   *
+   * @return shape of the query or null if the query can't use {@link #queryPlanCache}. Ex: a criteria which isn't a {@link ParameterizedCriteriaHandler}.
+   */
+  protected QueryShape shape(String kind, KEY key, AbstractSearch<?> params, Set<String> includes, Sort sort, Keyset keyset) {
+    if (queryPlanCache == null) {
+      return null;
+    }
+    List<String> criteria = new ArrayList<>();
+    if (params != null) {
+      params.forEachCriteria((column, handler) -> {
+        String shape = handler instanceof ParameterizedCriteriaHandler ? ((ParameterizedCriteriaHandler<?>) handler).shape() : null;
+        if (shape == null || !shape.isEmpty()) {
+          // null marks criteria which can't be shaped
+          criteria.add(shape == null ? null : column + ":" + shape);
+        }
+      });
+      if (criteria.contains(null)) {
+        return null;
+      }
+    }
+    return new QueryShape(kind,
+        key == null ? null : List.copyOf(getKeyValues(key).keySet()),
+        includes == null ? null : includes instanceof Projection ? ((Projection) includes).getFields() : List.copyOf(includes),
+        params != null && params.isDistinct(),
+        sort == null ? Sort.unsorted() : sort,
+        keyset != null && keyset.getValues() != null,
+        criteria);
+  }
+
+  /**
+   * // @formatter:off
+   * Create a query using the cached plan of the given shape. On a miss, the builder creates the query with named parameters which is then rendered and cached
+   * for the next queries of the same shape. Without a shape, the builder is given null parameters and creates the query with literal values as usual.
+   * // @formatter:on
+   *
+   * @param resultType result type of the query
+   * @param shape      shape of the query from {@link #shape(String, Serializable, AbstractSearch, Set, Sort, Keyset)}
+   * @param builder    create a criteria query with the given parameters or with literal values if parameters are null
+   * @return a query with all parameters bound
+   */
+  protected <T> TypedQuery<T> createQuery(Class<T> resultType, QueryShape shape, KEY key, AbstractSearch<?> params, Keyset keyset,
+      Function<CriteriaParameters, CriteriaQuery<T>> builder) {
+    return createQuery(em, resultType, shape, key, params, keyset, builder);
+  }
+
+  protected <T> TypedQuery<T> createQuery(EntityManager entityManager, Class<T> resultType, QueryShape shape, KEY key, AbstractSearch<?> params, Keyset keyset,
+      Function<CriteriaParameters, CriteriaQuery<T>> builder) {
+    if (shape == null) {
+      return entityManager.createQuery(builder.apply(null));
+    }
+    String jpql = queryPlanCache.get(shape);
+    boolean miss = jpql == null;
+    CriteriaParameters parameters = new CriteriaParameters(miss ? cb : null);
+    if (miss) {
+      jpql = entityManager.createQuery(builder.apply(parameters)).unwrap(org.hibernate.query.Query.class).getQueryString();
+    } else {
+      bind(parameters, key, params, keyset);
+    }
+    TypedQuery<T> query = entityManager.createQuery(jpql, resultType);
+    if (!bind(query, parameters.getValues())) {
+      log.debug("Query of {} can't be reused, falling back to literal values", shape);
+      return entityManager.createQuery(builder.apply(null));
+    }
+    if (miss) {
+      queryPlanCache.put(shape, jpql);
+    }
+    return query;
+  }
+
+  /**
+   * Collect parameter values in the same order and with the same names as {@link #criteriaSql(CriteriaQuery, Root, Serializable, AbstractSearch, Keyset,
+   * CriteriaParameters)} creates them.
+   */
+  protected void bind(CriteriaParameters parameters, KEY key, AbstractSearch<?> params, Keyset keyset) {
+    if (key != null) {
+      parameters.column(KEY_PARAMETERS);
+      getKeyValues(key).forEach(parameters::bind);
+    }
+    if (params != null) {
+      params.forEachCriteria((column, handler) -> ((ParameterizedCriteriaHandler<?>) handler).bind(parameters.column(column)));
+    }
+    if (keyset != null && keyset.getValues() != null) {
+      parameters.column(KEYSET_PARAMETERS);
+      for (int i = 0; i < keyset.getValues().size(); i++) {
+        parameters.bind(String.valueOf(i), keyset.getValues().get(i));
+      }
+    }
+  }
+
+  private boolean bind(TypedQuery<?> query, Map<String, Object> values) {
+    for (Parameter<?> parameter : query.getParameters()) {
+      if (parameter.getName() == null || !values.containsKey(parameter.getName())) {
+        return false;
+      }
+      query.setParameter(parameter.getName(), convertParameter(values.get(parameter.getName()), parameter.getParameterType()));
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected Object convertParameter(Object value, Class<?> type) {
+    if (value == null || type == null || type.isInstance(value)) {
+      return value;
+    }
+    if (value instanceof Collection) {
+      return ((Collection<?>) value).stream().map(element -> convertParameter(element, type)).collect(Collectors.toList());
+    }
+    Class<?> target = ClassUtils.resolvePrimitiveIfNecessary(type);
+    if (value instanceof Number && Number.class.isAssignableFrom(target)) {
+      return NumberUtils.convertNumberToTargetClass((Number) value, (Class<Number>) target);
+    }
+    return mapper.convertValue(value, target);
   }
 
   protected CriteriaQuery<ENTITY> select(CriteriaQuery<ENTITY> cq, Root<ENTITY> root, boolean distinct) {
@@ -231,53 +1013,325 @@ public class RepositoryImpl<ENTITY, KEY extends Serializable> extends SimpleJpaR
     return (CriteriaQuery<Long>) criteriaSql(cq, root, null, params);
   }
 
+  @SuppressWarnings("unchecked")
+  protected <T> CriteriaQuery<T> keysetCriteria(CriteriaQuery<T> cq, Root<ENTITY> root, AbstractSearch<?> params, Keyset keyset) {
+    return (CriteriaQuery<T>) criteriaSql(cq, root, null, params, keyset);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <T> CriteriaQuery<T> parameterizedCriteria(CriteriaQuery<T> cq, Root<ENTITY> root, KEY key, AbstractSearch<?> params, Keyset keyset,
+      CriteriaParameters parameters) {
+    return (CriteriaQuery<T>) criteriaSql(cq, root, key, params, keyset, parameters);
+  }
+
   protected CriteriaQuery<ENTITY> orderBy(CriteriaQuery<ENTITY> cq, Root<ENTITY> root, Sort sort) {
     if (sort == null || sort.isUnsorted()) {
       return cq;
     }
+    return cq.orderBy(orders(root, sort));
+  }
 
-    Order[] orders = sort.stream().map(order -> order.getDirection().isAscending() ?
+  protected Order[] orders(Root<ENTITY> root, Sort sort) {
+    return sort.stream().map(order -> order.getDirection().isAscending() ?
         cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())))
         .toArray(Order[]::new);
-    return cq.orderBy(orders);
   }
 
-  @SneakyThrows
+  /**
+   * Append id fields to the given sort so every row has a unique position in the keyset.
+   *
+   * @param sort requested sort
+   * @return sort ending with the id fields
+   */
+  protected Sort keysetSort(Sort sort) {
+    Sort keysetSort = sort == null ? Sort.unsorted() : sort;
+    for (String idField : idFields) {
+      if (keysetSort.getOrderFor(idField) == null) {
+        keysetSort = keysetSort.and(Sort.by(idField));
+      }
+    }
+    return keysetSort;
+  }
+
   protected CriteriaQuery<?> criteriaSql(CriteriaQuery<?> cq, Root<ENTITY> root, KEY key, AbstractSearch<?> params) {
+    return criteriaSql(cq, root, key, params, null);
+  }
+
+  protected CriteriaQuery<?> criteriaSql(CriteriaQuery<?> cq, Root<ENTITY> root, KEY key, AbstractSearch<?> params, Keyset keyset) {
+    return criteriaSql(cq, root, key, params, keyset, null);
+  }
+
+  /**
+   * Create predicates of the query. Values are bound as named parameters if parameters are given, otherwise they are rendered as literals.
+   */
+  protected CriteriaQuery<?> criteriaSql(CriteriaQuery<?> cq, Root<ENTITY> root, KEY key, AbstractSearch<?> params, Keyset keyset,
+      CriteriaParameters parameters) {
+    return cq.where(getPredicates(root, key, params, keyset, parameters).toArray(Predicate[]::new));
+  }
+
+  /**
+   * Create predicates of the key, criteria and keyset. They are shared by queries, bulk updates and bulk deletes.
+   */
+  @SneakyThrows
+  protected List<Predicate> getPredicates(Root<ENTITY> root, KEY key, AbstractSearch<?> params, Keyset keyset, CriteriaParameters parameters) {
     List<Predicate> predicates = new ArrayList<>();
 
     if (key != null) {
-      Map<String, Object> keyMap = key instanceof Number ? Map.of(idFields.get(0), key) : mapper.convertValue(key, keyMapType);
-      predicates.addAll(getKeyPredicates(root, keyMap));
+      predicates.addAll(getKeyPredicates(root, getKeyValues(key), parameters));
     }
 
     if (params != null) {
-      params.getCriteria().forEach((column, handler) -> {
-        if (handler != null) {
-          predicates.addAll(handler.handle(cb, root.get(column)));
-        }
-      });
+      params.forEachCriteria((column, handler) -> predicates.addAll(parameters == null ? handler.handle(cb, root.get(column))
+          : ((ParameterizedCriteriaHandler<?>) handler).handle(cb, root.get(column), parameters.column(column))));
     }
 
-    return cq.where(predicates.toArray(Predicate[]::new));
+    if (keyset != null && keyset.getValues() != null) {
+      predicates.add(getKeysetPredicate(root, keyset, parameters));
+    }
+
+    return predicates;
   }
 
+  private Predicate[] getRequiredPredicates(Root<ENTITY> root, AbstractSearch<?> params) {
+    List<Predicate> predicates = getPredicates(root, null, params, null, null);
+    if (predicates.isEmpty()) {
+      throw new IllegalArgumentException("Refusing to modify all rows without any criteria");
+    }
+    return predicates.toArray(Predicate[]::new);
+  }
+
+  private void set(CriteriaUpdate<ENTITY> cu, Root<ENTITY> root, String field, Object value) {
+    Path<Object> path = root.get(field);
+    cu.set(path, convertParameter(value, path.getJavaType()));
+  }
+
+  /**
+   * Whether modifiedAt and modifiedBy are mapped and maintained by the {@link Metadata} listener
+   */
+  private boolean hasMetadata() {
+    EntityListeners listeners = AnnotatedElementUtils.findMergedAnnotation(clazz, EntityListeners.class);
+    if (!BaseEntity.class.isAssignableFrom(clazz) || listeners == null || !Arrays.asList(listeners.value()).contains(Metadata.class)) {
+      return false;
+    }
+    Set<String> attributes = em.getMetamodel().entity(clazz).getAttributes().stream().map(Attribute::getName).collect(Collectors.toSet());
+    return attributes.contains(MODIFIED_AT) && attributes.contains(MODIFIED_BY);
+  }
+
+  protected Predicate getKeysPredicate(Root<ENTITY> root, Collection<KEY> keys) {
+    if (idFields.size() == 1) {
+      return root.get(idFields.get(0)).in(keys);
+    }
+    return cb.or(keys.stream()
+        .map(key -> cb.and(getKeyPredicates(root, getKeyValues(key), null).toArray(Predicate[]::new)))
+        .toArray(Predicate[]::new));
+  }
+
+  private <S, R> List<R> inBatches(Iterable<S> entities, int batchSize, boolean clear, Function<S, R> write) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    Session session = em.unwrap(Session.class);
+    Integer jdbcBatchSize = session.getJdbcBatchSize();
+    session.setJdbcBatchSize(batchSize);
+    try {
+      List<R> results = new ArrayList<>();
+      for (S entity : entities) {
+        results.add(write.apply(entity));
+        if (results.size() % batchSize == 0) {
+          em.flush();
+          if (clear) {
+            em.clear();
+          }
+        }
+      }
+      em.flush();
+      return results;
+    } finally {
+      session.setJdbcBatchSize(jdbcBatchSize);
+    }
+  }
+
+  /**
+   * // @formatter:off
+   * Group rows by id fields only when the query fans out, Ex: a join or fetch of a collection added by a subclass, and isn't distinct already. Otherwise
+   * grouping only costs the database an extra aggregation step since every row already has a unique id.
+   * // @formatter:on
+   */
   protected CriteriaQuery<ENTITY> groupBy(CriteriaQuery<ENTITY> cq, Root<ENTITY> root) {
+    if (cq.isDistinct() || !fansOut(root)) {
+      return cq;
+    }
     return cq.groupBy(idFields.stream().map(root::get).collect(Collectors.toUnmodifiableList()));
   }
 
-  private List<Predicate> getKeyPredicates(Root<ENTITY> root, Map<String, Object> keyMap) {
+  /**
+   * @return true if the root joins or fetches a collection so an entity may appear in more than one row
+   */
+  protected boolean fansOut(Root<ENTITY> root) {
+    return root.getJoins().stream().anyMatch(join -> join.getAttribute().isCollection())
+        || root.getFetches().stream().anyMatch(fetch -> fetch.getAttribute().isCollection());
+  }
+
+  protected Map<String, Object> getKeyValues(KEY key) {
+    return keyBinder.values(key);
+  }
+
+  private List<Predicate> getKeyPredicates(Root<ENTITY> root, Map<String, Object> keyMap, CriteriaParameters parameters) {
     List<Predicate> predicates = new ArrayList<>(keyMap.size());
-    keyMap.forEach((k, v) -> predicates.add(cb.equal(root.get(k), v)));
+    if (parameters != null) {
+      parameters.column(KEY_PARAMETERS);
+    }
+    keyMap.forEach((k, v) -> {
+      Path<Object> path = root.get(k);
+      predicates.add(parameters == null ? cb.equal(path, v) : cb.equal(path, parameters.parameter(k, path.getJavaType(), v)));
+    });
     return predicates;
   }
 
-  @SuppressWarnings("all")
+  protected Predicate getKeysetPredicate(Root<ENTITY> root, Keyset keyset) {
+    return getKeysetPredicate(root, keyset, null);
+  }
+
+  /**
+   * Create the seek predicate {@code (sort1, sort2, ...) > (value1, value2, ...)} honoring each sort direction. It is expanded into
+   * {@code sort1 > value1 or (sort1 = value1 and sort2 > value2) or ...} since row value comparison isn't supported everywhere.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected Predicate getKeysetPredicate(Root<ENTITY> root, Keyset keyset, CriteriaParameters parameters) {
+    if (parameters != null) {
+      parameters.column(KEYSET_PARAMETERS);
+    }
+    List<Sort.Order> orders = keyset.getSort().toList();
+    List<Predicate> disjunction = new ArrayList<>(orders.size());
+    for (int i = 0; i < orders.size(); i++) {
+      Predicate[] conjunction = new Predicate[i + 1];
+      for (int j = 0; j < i; j++) {
+        Path<Object> path = root.get(orders.get(j).getProperty());
+        conjunction[j] = cb.equal(path, keysetValue(path, keyset, j, parameters));
+      }
+      Path<Comparable> path = root.get(orders.get(i).getProperty());
+      Expression<Comparable> value = keysetValue(path, keyset, i, parameters);
+      conjunction[i] = orders.get(i).isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+      disjunction.add(cb.and(conjunction));
+    }
+    return cb.or(disjunction.toArray(Predicate[]::new));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <V> Expression<V> keysetValue(Path<V> path, Keyset keyset, int index, CriteriaParameters parameters) {
+    Class<V> type = (Class<V>) path.getJavaType();
+    Object value = keyset.getValues().get(index);
+    if (parameters != null) {
+      return parameters.parameter(String.valueOf(index), type, value);
+    }
+    return cb.literal(KeysetCursor.convert(value, type));
+  }
+
+  /**
+   * Whether the given repository class changes how queries are created. Rendered queries can't be reused in that case since overridden methods may create
+   * different queries for the same {@link QueryShape}.
+   */
+  private static boolean overridesQueryCreation(Class<?> type) {
+    for (Class<?> current = type; current != null && current != RepositoryImpl.class; current = current.getSuperclass()) {
+      for (Method method : current.getDeclaredMethods()) {
+        if (QUERY_CREATION_METHODS.contains(method.getName()) && Arrays.stream(method.getParameterTypes())
+            .anyMatch(parameter -> CommonAbstractCriteria.class.isAssignableFrom(parameter) || Root.class.isAssignableFrom(parameter))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   protected ENTITY mapRowToObject(Set<String> fields, Tuple tuple, Class<ENTITY> clazz) {
+    if (!this.clazz.equals(clazz)) {
+      return convertRowToObject(fields, columns(fields, tuple), clazz);
+    }
+    return rowMapper(fields).apply(tuple);
+  }
+
+  /**
+   * Resolve the mapper of the given includes once for all rows of a query.
+   *
+   * @param fields ordered fields matching tuple columns
+   * @return a function creating an entity from a tuple
+   */
+  protected Function<Tuple, ENTITY> rowMapper(Set<String> fields) {
+    if (fields == null) {
+      throw new IllegalArgumentException("row columns and object fields does not match");
+    }
+    Function<Object[], ENTITY> tupleMapper = getTupleMapper(fields);
+    return tuple -> tupleMapper.apply(columns(fields, tuple));
+  }
+
+  private static Object[] columns(Set<String> fields, Tuple tuple) {
     Object[] columns = tuple.toArray();
     if (fields == null || columns == null || columns.length != fields.size()) {
       throw new IllegalArgumentException("row columns and object fields does not match");
     }
+    return columns;
+  }
+
+  /**
+   * Get a cached mapper for the given includes or compile a new one. Falls back to {@link #convertRowToObject(Set, Object[], Class)} if the entity can't be
+   * mapped directly. Ex: a field without setter or a setter which doesn't take the attribute type. Mappers of a {@link Projection} are looked up by its bits without copying its fields.
+   *
+   * @param fields ordered fields matching tuple columns
+   * @return a function creating an entity from tuple columns
+   */
+  protected Function<Object[], ENTITY> getTupleMapper(Set<String> fields) {
+    List<String> ordered = fields instanceof Projection ? ((Projection) fields).getFields() : List.copyOf(fields);
+    Object key = fields instanceof Projection ? fields : ordered;
+    Function<Object[], ENTITY> cached = tupleMappers.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    TupleMapper<ENTITY> compiled = TupleMapper.compile(clazz, ordered, attributeTypes(ordered));
+    Function<Object[], ENTITY> tupleMapper = compiled != null ? compiled::map : columns -> convertRowToObject(fields, columns, clazz);
+    if (tupleMappers.putIfAbsent(key, tupleMapper) == null) {
+      tupleMapperOrder.add(key);
+      while (tupleMappers.size() > tupleMapperCacheSize) {
+        Object eldest = tupleMapperOrder.poll();
+        if (eldest == null) {
+          break;
+        }
+        tupleMappers.remove(eldest);
+      }
+    }
+    return tupleMapper;
+  }
+
+  /**
+   * @return values of a cursor converted to the types of their sort properties
+   */
+  private List<Object> keysetValues(Sort sort, List<Object> values) {
+    List<Class<?>> types = attributeTypes(sort.stream().map(Sort.Order::getProperty).collect(Collectors.toList()));
+    List<Object> converted = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      converted.add(KeysetCursor.convert(values.get(i), types.get(i)));
+    }
+    return converted;
+  }
+
+  /**
+   * @return java types of the given attributes which are the types of their tuple columns. Types of fields which aren't attributes of the metamodel are
+   * their declared types. Ex: {@link javax.persistence.IdClass} fields.
+   */
+  private List<Class<?>> attributeTypes(List<String> fields) {
+    EntityType<ENTITY> entity = em.getMetamodel().entity(clazz);
+    List<Class<?>> types = new ArrayList<>(fields.size());
+    for (String field : fields) {
+      try {
+        types.add(entity.getAttribute(field).getJavaType());
+      } catch (IllegalArgumentException e) {
+        Field declared = ReflectionUtils.findField(clazz, field);
+        types.add(declared == null ? Object.class : declared.getType());
+      }
+    }
+    return types;
+  }
+
+  protected ENTITY convertRowToObject(Set<String> fields, Object[] columns, Class<ENTITY> clazz) {
     Map<String, Object> object = new HashMap<>();
     int i = 0;
     for (String field : fields) {
@@ -286,5 +1340,51 @@ public class RepositoryImpl<ENTITY, KEY extends Serializable> extends SimpleJpaR
     return mapper.convertValue(object, clazz);
   }
 
+  /**
+   * {@link Counter} of one search running its queries with the given {@link EntityManager}
+   */
+  protected class SearchCounter implements Counter {
+
+    private final AbstractSearch<?> params;
+    private final EntityManager entityManager;
 
+    protected SearchCounter(AbstractSearch<?> params, EntityManager entityManager) {
+      this.params = params;
+      this.entityManager = entityManager;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+      return clazz;
+    }
+
+    @Override
+    public AbstractSearch<?> getParams() {
+      return params;
+    }
+
+    @Override
+    public boolean isFiltered() {
+      boolean[] filtered = {false};
+      params.forEachCriteria((column, handler) -> filtered[0] |= !(handler instanceof ParameterizedCriteriaHandler
+          && "".equals(((ParameterizedCriteriaHandler<?>) handler).shape())));
+      return filtered[0];
+    }
+
+    @Override
+    public long count() {
+      return RepositoryImpl.this.count(params, entityManager);
+    }
+
+    @Override
+    public long countUpTo(long limit) {
+      return RepositoryImpl.this.countUpTo(params, limit, entityManager);
+    }
+
+    @Override
+    public long estimate() {
+      // a failed statistics query would mark the transaction of the search for rollback or abort it on PostgreSQL
+      return readOnly(statisticsEntityManager -> TableStatistics.estimateRows(statisticsEntityManager, clazz));
+    }
+  }
 }
@@ -0,0 +1,133 @@
+package io.github.voduku.repository;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * // @formatter:off
+ * Map projected tuple columns straight into a new entity through pre-resolved {@link MethodHandle}s instead of converting a {@link java.util.Map} with Jackson.
+ * <br>A mapper is compiled once for a given entity class and an ordered list of fields. Use {@link #compile(Class, List)} to create one.
+ * // @formatter:on
+ *
+ * @param <ENTITY> Entity Type
+ * @author VuDo
+ * @since 1.3.0
+ */
+public final class TupleMapper<ENTITY> {
+
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+  private final MethodHandle constructor;
+  private final MethodHandle[] setters;
+  private final boolean[] primitives;
+
+  private TupleMapper(MethodHandle constructor, MethodHandle[] setters, boolean[] primitives) {
+    this.constructor = constructor;
+    this.setters = setters;
+    this.primitives = primitives;
+  }
+
+  /**
+   * Compile a mapper writing columns into the given fields in order. Setters are preferred over fields. Columns are expected to have the types of the fields.
+   *
+   * @param clazz  entity class
+   * @param fields ordered fields matching the tuple columns
+   * @return a mapper or null if the entity can't be instantiated or any of the fields is not writable.
+   */
+  public static <ENTITY> TupleMapper<ENTITY> compile(Class<ENTITY> clazz, List<String> fields) {
+    Class<?>[] types = new Class<?>[fields.size()];
+    for (int i = 0; i < types.length; i++) {
+      Field field = ReflectionUtils.findField(clazz, fields.get(i));
+      if (field == null) {
+        return null;
+      }
+      types[i] = field.getType();
+    }
+    return compile(clazz, fields, List.of(types));
+  }
+
+  /**
+   * Compile a mapper writing columns into the given fields in order. Setters are preferred over fields.
+   *
+   * @param clazz   entity class
+   * @param fields  ordered fields matching the tuple columns
+   * @param columns java types of the tuple columns. Ex: java types of the JPA attributes
+   * @return a mapper or null if the entity can't be instantiated or any of the fields is not writable with values of its column type. Ex: a setter taking a
+   * type different from the attribute type. Such values need conversions.
+   */
+  public static <ENTITY> TupleMapper<ENTITY> compile(Class<ENTITY> clazz, List<String> fields, List<Class<?>> columns) {
+    if (columns.size() != fields.size()) {
+      return null;
+    }
+    try {
+      Lookup lookup = MethodHandles.lookup();
+      Constructor<ENTITY> ctor = ReflectionUtils.accessibleConstructor(clazz);
+      MethodHandle constructor = lookup.unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+      MethodHandle[] setters = new MethodHandle[fields.size()];
+      boolean[] primitives = new boolean[fields.size()];
+      for (int i = 0; i < setters.length; i++) {
+        String name = fields.get(i);
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(clazz, name);
+        Method setter = descriptor == null ? null : descriptor.getWriteMethod();
+        MethodHandle handle;
+        Class<?> type;
+        if (setter != null) {
+          ReflectionUtils.makeAccessible(setter);
+          handle = lookup.unreflect(setter);
+          type = setter.getParameterTypes()[0];
+        } else {
+          Field field = ReflectionUtils.findField(clazz, name);
+          if (field == null) {
+            return null;
+          }
+          ReflectionUtils.makeAccessible(field);
+          handle = lookup.unreflectSetter(field);
+          type = field.getType();
+        }
+        if (!ClassUtils.isAssignable(type, columns.get(i))) {
+          return null;
+        }
+        setters[i] = handle.asType(handle.type().changeReturnType(void.class)).asType(SETTER_TYPE);
+        primitives[i] = type.isPrimitive();
+      }
+      return new TupleMapper<>(constructor, setters, primitives);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Create a new entity from tuple columns. Null columns are skipped for primitive fields and leave them at their default values.
+   *
+   * @param columns tuple columns
+   * @return a new entity
+   */
+  @SneakyThrows
+  @SuppressWarnings("unchecked")
+  public ENTITY map(Object[] columns) {
+    if (columns.length != setters.length) {
+      throw new IllegalArgumentException("row columns and object fields does not match");
+    }
+    Object entity = constructor.invokeExact();
+    for (int i = 0; i < setters.length; i++) {
+      Object value = columns[i];
+      if (value == null && primitives[i]) {
+        continue;
+      }
+      setters[i].invokeExact(entity, value);
+    }
+    return (ENTITY) entity;
+  }
+}
@@ -0,0 +1,60 @@
+package io.github.voduku.repository.count;
+
+import io.github.voduku.model.SearchKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+
+/**
+ * // @formatter:off
+ * Reuse totals of a delegate strategy for searches with the same normalized filter ({@link SearchKey}) until they expire. Paging through a search only counts
+ * once per time-to-live.
+ * <br>Totals may be stale for up to the time-to-live after writes. Call {@link #clear()} to drop them earlier.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class CachedCountStrategy implements CountStrategy {
+
+  private final CountStrategy delegate;
+  private final long ttlNanos;
+  private final int maximumSize;
+  private final Map<SearchKey, Entry> totals = new ConcurrentHashMap<>();
+
+  public CachedCountStrategy(CountStrategy delegate, Duration ttl, int maximumSize) {
+    this.delegate = delegate;
+    this.ttlNanos = ttl.toNanos();
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  public Total count(Counter counter) {
+    SearchKey key = SearchKey.of(counter.getEntityClass(), counter.getParams());
+    long now = System.nanoTime();
+    Entry entry = totals.get(key);
+    if (entry != null && now - entry.getExpiresAt() < 0) {
+      return entry.getTotal();
+    }
+    Total total = delegate.count(counter);
+    if (totals.size() >= maximumSize) {
+      totals.values().removeIf(expired -> now - expired.getExpiresAt() >= 0);
+    }
+    if (totals.size() < maximumSize) {
+      totals.put(key, new Entry(total, now + ttlNanos));
+    }
+    return total;
+  }
+
+  public void clear() {
+    totals.clear();
+  }
+
+  @Value
+  private static class Entry {
+
+    Total total;
+    long expiresAt;
+  }
+}
@@ -0,0 +1,25 @@
+package io.github.voduku.repository.count;
+
+/**
+ * Count matching rows up to a limit. Searches with more results report the limit as an approximate total, which clients can show as "limit+".
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class CappedCountStrategy implements CountStrategy {
+
+  private final long limit;
+
+  public CappedCountStrategy(long limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Count limit must be positive");
+    }
+    this.limit = limit;
+  }
+
+  @Override
+  public Total count(Counter counter) {
+    long count = counter.countUpTo(limit + 1);
+    return count > limit ? Total.approximate(limit) : Total.exact(count);
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.voduku.repository.count;
+
+import java.time.Duration;
+
+/**
+ * // @formatter:off
+ * Decide how total counts of page searches are computed. Use the factories below or implement your own with the queries offered by {@link Counter}.
+ * <br>Strategies are shared between threads and must be thread-safe.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public interface CountStrategy {
+
+  Total count(Counter counter);
+
+  /**
+   * @return exact {@code count(*)} for every search
+   */
+  static CountStrategy exact() {
+    return ExactCountStrategy.INSTANCE;
+  }
+
+  /**
+   * @param ttl         how long a count is reused for the same filter
+   * @param maximumSize maximum number of filters to keep counts for
+   * @return exact counts cached per normalized filter
+   */
+  static CountStrategy cached(Duration ttl, int maximumSize) {
+    return new CachedCountStrategy(exact(), ttl, maximumSize);
+  }
+
+  /**
+   * @param limit maximum number to count
+   * @return exact counts up to the limit. Otherwise, the limit as an approximate total.
+   */
+  static CountStrategy capped(long limit) {
+    return new CappedCountStrategy(limit);
+  }
+
+  /**
+   * @param fallback strategy used for filtered searches or when the database has no estimate
+   * @return database statistics for unfiltered searches
+   */
+  static CountStrategy estimated(CountStrategy fallback) {
+    return new EstimatedCountStrategy(fallback);
+  }
+}
@@ -0,0 +1,39 @@
+package io.github.voduku.repository.count;
+
+import io.github.voduku.model.AbstractSearch;
+
+/**
+ * Ways of counting the results of one search which are given to a {@link CountStrategy}. Every call runs a query.
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public interface Counter {
+
+  Class<?> getEntityClass();
+
+  AbstractSearch<?> getParams();
+
+  /**
+   * @return whether the search has any predicate. Database estimates only apply to searches without predicates.
+   */
+  boolean isFiltered();
+
+  /**
+   * @return exact number of results
+   */
+  long count();
+
+  /**
+   * Count results but stop at the given limit so the database doesn't need to visit every matching row.
+   *
+   * @param limit maximum number to count
+   * @return number of results or the limit if there are at least as many results
+   */
+  long countUpTo(long limit);
+
+  /**
+   * @return estimated number of rows of the entity table from database statistics or a negative number if there is no estimate
+   */
+  long estimate();
+}
@@ -0,0 +1,31 @@
+package io.github.voduku.repository.count;
+
+/**
+ * // @formatter:off
+ * Use the row estimate from database statistics for searches without predicates. Estimates are as fresh as the statistics of the database. Ex: the last
+ * {@code ANALYZE} of PostgreSQL.
+ * <br>Filtered searches and databases without estimates are counted by the fallback strategy.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class EstimatedCountStrategy implements CountStrategy {
+
+  private final CountStrategy fallback;
+
+  public EstimatedCountStrategy(CountStrategy fallback) {
+    this.fallback = fallback == null ? CountStrategy.exact() : fallback;
+  }
+
+  @Override
+  public Total count(Counter counter) {
+    if (!counter.isFiltered()) {
+      long estimate = counter.estimate();
+      if (estimate >= 0) {
+        return Total.approximate(estimate);
+      }
+    }
+    return fallback.count(counter);
+  }
+}
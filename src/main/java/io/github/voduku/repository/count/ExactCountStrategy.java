@@ -0,0 +1,17 @@
+package io.github.voduku.repository.count;
+
+/**
+ * Count every matching row.
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+public class ExactCountStrategy implements CountStrategy {
+
+  static final ExactCountStrategy INSTANCE = new ExactCountStrategy();
+
+  @Override
+  public Total count(Counter counter) {
+    return Total.exact(counter.count());
+  }
+}
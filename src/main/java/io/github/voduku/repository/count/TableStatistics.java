@@ -0,0 +1,80 @@
+package io.github.voduku.repository.count;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.Oracle8iDialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * // @formatter:off
+ * Read row estimates of entity tables from database statistics. Supported databases are PostgreSQL, MySQL/MariaDB, H2, SQL Server and Oracle.
+ * // @formatter:on
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Slf4j
+public final class TableStatistics {
+
+  private TableStatistics() {
+  }
+
+  /**
+   * @param entityManager entity manager to query with. It shouldn't take part in a transaction since catalogs may be unreadable and a failed query would
+   *                      spoil the transaction.
+   * @param entityClass   entity type
+   * @return estimated rows of the entity table or -1 if there is no estimate
+   */
+  public static long estimateRows(EntityManager entityManager, Class<?> entityClass) {
+    SessionFactoryImplementor factory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+    EntityPersister persister = factory.getMetamodel().entityPersister(entityClass);
+    String sql = estimateSql(factory.getJdbcServices().getDialect());
+    if (sql == null || !(persister instanceof AbstractEntityPersister)) {
+      return -1;
+    }
+    String table = ((AbstractEntityPersister) persister).getTableName();
+    try {
+      List<?> rows = entityManager.createNativeQuery(sql)
+          .setParameter("table", sql.contains("regclass") ? table : unqualified(table))
+          .getResultList();
+      Object estimate = rows.isEmpty() ? null : rows.get(0);
+      return estimate instanceof Number ? Math.max(((Number) estimate).longValue(), -1) : -1;
+    } catch (PersistenceException e) {
+      log.debug("Can't estimate rows of {}", table, e);
+      return -1;
+    }
+  }
+
+  private static String estimateSql(Dialect dialect) {
+    if (dialect instanceof PostgreSQL81Dialect) {
+      return "select cast(reltuples as bigint) from pg_class where oid = to_regclass(:table)";
+    }
+    if (dialect instanceof MySQLDialect) {
+      return "select table_rows from information_schema.tables where table_schema = database() and table_name = :table";
+    }
+    if (dialect instanceof H2Dialect) {
+      return "select row_count_estimate from information_schema.tables where upper(table_name) = upper(:table)";
+    }
+    if (dialect instanceof SQLServerDialect) {
+      return "select sum(rows) from sys.partitions where object_id = object_id(:table) and index_id in (0, 1)";
+    }
+    if (dialect instanceof Oracle8iDialect) {
+      return "select num_rows from user_tables where table_name = upper(:table)";
+    }
+    return null;
+  }
+
+  private static String unqualified(String table) {
+    String name = table.substring(table.lastIndexOf('.') + 1);
+    return name.replaceAll("[`\"\\[\\]]", "");
+  }
+}
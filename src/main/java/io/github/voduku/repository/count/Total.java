@@ -0,0 +1,24 @@
+package io.github.voduku.repository.count;
+
+import lombok.Value;
+
+/**
+ * Total number of results of a search. {@link #exact} is false if {@link #value} is an estimate or a lower bound.
+ *
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Value
+public class Total {
+
+  long value;
+  boolean exact;
+
+  public static Total exact(long value) {
+    return new Total(value, true);
+  }
+
+  public static Total approximate(long value) {
+    return new Total(value, false);
+  }
+}
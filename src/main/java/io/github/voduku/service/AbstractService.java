@@ -1,28 +1,57 @@
 package io.github.voduku.service;
 
+import io.github.voduku.cache.Cache;
+import io.github.voduku.concurrent.SingleFlight;
 import io.github.voduku.model.AbstractMapper;
 import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.BatchItem;
+import io.github.voduku.model.CursorSlice;
+import io.github.voduku.model.Projection;
+import io.github.voduku.model.RestResult;
+import io.github.voduku.model.SearchKey;
 import io.github.voduku.repository.Repository;
+import io.github.voduku.repository.count.CountStrategy;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.PostConstruct;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.NoResultException;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.CollectionUtils;
 
 /**
  * // @formatter:off
@@ -46,6 +75,10 @@ import org.springframework.data.domain.Slice;
 public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, ENTITY, KEY extends Serializable> implements
     Service<REQUEST, RESPONSE, SEARCH, KEY> {
 
+  private static final String NOT_FOUND = "Can't find data with given ID";
+  private static final String GET = "get";
+  private static final String SEARCH_SLICE = "search";
+
   @Autowired(required = false)
   protected ResourceBundle resourceBundle;
   @Autowired(required = false)
@@ -63,6 +96,8 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
   protected Function<RESPONSE, RESPONSE> afterSearchPageMapping = response -> response;
   protected Function<Slice<RESPONSE>, Slice<RESPONSE>> afterSearchSlice = slice -> slice.map(afterSearchSliceMapping);
   protected Function<Page<RESPONSE>, Page<RESPONSE>> afterSearchPage = slice -> slice.map(afterSearchPageMapping);
+  protected Function<RESPONSE, RESPONSE> afterStreamMapping = response -> response;
+  protected Function<CursorSlice<RESPONSE>, CursorSlice<RESPONSE>> afterSearchAfter = slice -> slice.map(afterSearchSliceMapping);
   protected Function<SEARCH, SEARCH> searchTransformer = params -> params;
   protected Supplier<Exception> createException = () -> new Exception(getMessage("err.default"));
   protected Supplier<Exception> updateException = () -> new Exception(getMessage("err.default"));
@@ -70,6 +105,55 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
   protected Supplier<Exception> findException = NoResultException::new;
   protected Supplier<Exception> searchException = () -> new Exception(getMessage("err.default"));
   protected Supplier<Exception> searchPageException = () -> new Exception(getMessage("err.default"));
+  /**
+   * Executor running count queries of {@link #searchPage(AbstractSearch, Pageable)} concurrently with data queries. Counts run serially if null. Ex:
+   * {@code setCountExecutor(TaskExecutors.newTaskExecutor("count", 16))}
+   */
+  protected Executor countExecutor;
+  /**
+   * Strategy computing totals of {@link #searchPage(AbstractSearch, Pageable)}. The default strategy of the repository is used if null.
+   */
+  protected CountStrategy countStrategy;
+  /**
+   * Number of items loaded per query and written per JDBC batch by {@link #createAll(List)}, {@link #updateAll(List)} and {@link #deleteAll(Collection)}
+   */
+  protected int batchSize = 100;
+  @Autowired(required = false)
+  protected Validator validator;
+  /**
+   * // @formatter:off
+   * Write without loading entities first. {@link #delete(Serializable)} runs a single {@code DELETE} by key and {@link #update(Serializable, Object)} runs a
+   * single {@code UPDATE} of the non-null fields of the request like {@link io.github.voduku.model.MapperConfig} ignores null properties.
+   * <br>Entity listeners and cascades are skipped and the response of an update only contains the key and the updated fields.
+   * // @formatter:on
+   */
+  protected boolean directWrites = false;
+  /**
+   * // @formatter:off
+   * Optional cache of responses by key used by {@link #get(Serializable)} and {@link #exists(Serializable)}. Writes of this service invalidate their keys
+   * immediately and again after commit. Writes bypassing this service (Ex: {@link Repository#updateBy(AbstractSearch, Map)}) should call
+   * {@link Cache#invalidateAll()}. Ex: {@code setCache(new LocalCache<>(10_000, Duration.ofMinutes(5)))}
+   * <br>Cached responses are shared between callers so they must not be modified.
+   * // @formatter:on
+   */
+  protected Cache<KEY, RESPONSE> cache;
+  /**
+   * // @formatter:off
+   * Optional cache of {@link #get(Serializable, AbstractSearch)} and {@link #search(AbstractSearch, Pageable)} results keyed by the normalized
+   * {@link SearchKey} of the params with their includes, excludes and page. Any write of this service clears it immediately and again after commit.
+   * Ex: {@code setSearchCache(new LocalCache<>(1_000, Duration.ofSeconds(10)))}
+   * <br>Cached responses are shared between callers so they must not be modified.
+   * // @formatter:on
+   */
+  protected Cache<SearchKey, Object> searchCache;
+  /**
+   * // @formatter:off
+   * Optional coalescing of concurrent identical {@link #get(Serializable)}, {@link #get(Serializable, AbstractSearch)} and
+   * {@link #search(AbstractSearch, Pageable)} calls into one repository call. Calls within a read-write transaction always run on their own since they may
+   * see its uncommitted changes. Read-only transactions don't write so their calls are coalesced. Ex: {@code setSingleFlight(new SingleFlight<>())}
+   * // @formatter:on
+   */
+  protected SingleFlight<Object> singleFlight;
   private boolean autoGeneratedKey = false;
 
   @PostConstruct
@@ -85,6 +169,9 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    * @return boolean
    */
   public boolean exists(KEY key) {
+    if (getCache() != null && getCache().getIfPresent(key) != null) {
+      return true;
+    }
     return Optional.of(key)
         .map(getRepo()::existsById)
         .get();
@@ -99,6 +186,7 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    */
   @SneakyThrows
   public RESPONSE create(KEY key, REQUEST request) {
+    invalidate(key);
     return Optional.of(request)
         .map(getBeforeCreate())
         .map(rq -> getMapper().toEntity(isAutoGeneratedKey() ? null : key, rq))
@@ -118,6 +206,10 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    */
   @SneakyThrows
   public RESPONSE update(KEY key, REQUEST request) {
+    invalidate(key);
+    if (isDirectWrites()) {
+      return updateDirectly(key, request);
+    }
     return Optional.of(request)
         .map(getBeforeUpdate())
         .flatMap(ignored -> getRepo().findById(key))
@@ -134,6 +226,13 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    * @param key key of the entity
    */
   public void delete(KEY key) {
+    invalidate(key);
+    if (isDirectWrites()) {
+      if (getRepo().deleteByKey(key) == 0) {
+        throw new NoResultException();
+      }
+      return;
+    }
     getRepo().findById(key)
         .ifPresentOrElse(
             getRepo()::delete,
@@ -143,6 +242,170 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
         );
   }
 
+  /**
+   * Update the non-null fields of the request with a single statement. Values are mapped by {@link AbstractMapper#toEntity(Object, Object)} so mapping
+   * conversions still apply.
+   */
+  @SneakyThrows
+  protected RESPONSE updateDirectly(KEY key, REQUEST request) {
+    REQUEST rq = getBeforeUpdate().apply(request);
+    ENTITY changes = getMapper().toEntity(key, rq);
+    if (getRepo().updateByKey(key, getChangedValues(rq, changes)) == 0) {
+      throw getUpdateException().get();
+    }
+    return getAfterUpdate().apply(getMapper().toResponse(changes));
+  }
+
+  /**
+   * // @formatter:off
+   * Invalidate the cached response of the key and every cached search now and again after the current transaction completes so readers can't cache a value
+   * which is about to change.
+   * // @formatter:on
+   *
+   * @param key key of the entity or null if unknown. Ex: auto generated keys
+   */
+  protected void invalidate(KEY key) {
+    Cache<KEY, RESPONSE> responses = key == null ? null : getCache();
+    Cache<SearchKey, Object> searches = getSearchCache();
+    if (responses == null && searches == null) {
+      return;
+    }
+    Runnable invalidation = () -> {
+      if (responses != null) {
+        responses.invalidate(key);
+      }
+      if (searches != null) {
+        searches.invalidateAll();
+      }
+    };
+    invalidation.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          invalidation.run();
+        }
+      });
+    }
+  }
+
+  /**
+   * // @formatter:off
+   * Values of the mapped entity for the updatable fields set by the request. Keys and versions are never updated. A field is set by the request if its request
+   * property of the same name isn't null or if its mapped value differs from the one mapped from an empty request. Ex: properties renamed by the mapper.
+   * <br>Override this if the request can't be created with its no-args constructor or a renamed property may be set to its default value.
+   * // @formatter:on
+   *
+   * @param request request
+   * @param changes entity mapped from the request
+   * @return new values by field names
+   */
+  protected Map<String, Object> getChangedValues(REQUEST request, ENTITY changes) {
+    BeanWrapper source = PropertyAccessorFactory.forBeanPropertyAccess(request);
+    BeanWrapper target = PropertyAccessorFactory.forBeanPropertyAccess(changes);
+    @SuppressWarnings("unchecked")
+    REQUEST empty = (REQUEST) BeanUtils.instantiateClass(request.getClass());
+    BeanWrapper defaults = PropertyAccessorFactory.forBeanPropertyAccess(getMapper().toEntity(null, empty));
+    Map<String, Object> values = new HashMap<>();
+    for (String field : getRepo().getUpdatableFields()) {
+      Object value = target.isReadableProperty(field) ? target.getPropertyValue(field) : null;
+      if (value == null) {
+        continue;
+      }
+      boolean set = source.isReadableProperty(field) && source.getPropertyValue(field) != null;
+      if (set || !value.equals(defaults.getPropertyValue(field))) {
+        values.put(field, value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * // @formatter:off
+   * Create {@link ENTITY} entities in batches. Each item goes through the same hooks as {@link #create(Serializable, Object)}.
+   * <br>Items with invalid requests are reported in their results and skipped. Database errors fail the whole batch.
+   * // @formatter:on
+   *
+   * @param items keys and requests
+   * @return a result of every item in the same order
+   */
+  @Transactional
+  public List<RestResult<RESPONSE>> createAll(List<BatchItem<KEY, REQUEST>> items) {
+    invalidate(null);
+    RestResult<RESPONSE>[] results = newResults(items.size());
+    List<Integer> indexes = new ArrayList<>();
+    List<ENTITY> entities = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      BatchItem<KEY, REQUEST> item = items.get(i);
+      results[i] = validate(item.getRequest());
+      if (results[i] == null) {
+        indexes.add(i);
+        entities.add(getMapper().toEntity(isAutoGeneratedKey() ? null : item.getKey(), getBeforeCreate().apply(item.getRequest())));
+      }
+    }
+    List<ENTITY> created = getRepo().insertAll(entities, getBatchSize(), false);
+    for (int i = 0; i < created.size(); i++) {
+      results[indexes.get(i)] = RestResult.ok(getAfterCreate().apply(getMapper().toResponse(created.get(i))));
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * // @formatter:off
+   * Update {@link ENTITY} entities in batches. Targets of every batch are loaded with a single query then written with JDBC batching. Each item goes through
+   * the same hooks as {@link #update(Serializable, Object)}.
+   * <br>Items with invalid requests or keys which are not found are reported in their results and skipped. Database errors fail the whole batch.
+   * // @formatter:on
+   *
+   * @param items keys and requests
+   * @return a result of every item in the same order
+   */
+  @Transactional
+  public List<RestResult<RESPONSE>> updateAll(List<BatchItem<KEY, REQUEST>> items) {
+    RestResult<RESPONSE>[] results = newResults(items.size());
+    for (int from = 0; from < items.size(); from += getBatchSize()) {
+      int to = Math.min(from + getBatchSize(), items.size());
+      Map<KEY, ENTITY> targets = findAllByKey(items.subList(from, to).stream().map(BatchItem::getKey).collect(Collectors.toList()));
+      List<Integer> indexes = new ArrayList<>();
+      List<ENTITY> entities = new ArrayList<>();
+      for (int i = from; i < to; i++) {
+        BatchItem<KEY, REQUEST> item = items.get(i);
+        invalidate(item.getKey());
+        ENTITY entity = targets.get(item.getKey());
+        results[i] = entity == null ? RestResult.error(null, NOT_FOUND) : validate(item.getRequest());
+        if (results[i] == null) {
+          indexes.add(i);
+          entities.add(getMapper().updateEntity(getBeforeUpdate().apply(item.getRequest()), entity));
+        }
+      }
+      List<ENTITY> updated = getRepo().saveAll(entities, getBatchSize(), false);
+      for (int i = 0; i < updated.size(); i++) {
+        results[indexes.get(i)] = RestResult.ok(getAfterUpdate().apply(getMapper().toResponse(updated.get(i))));
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Delete {@link ENTITY} entities with the given keys in batches. Targets of every batch are loaded with a single query then removed with JDBC batching.
+   *
+   * @param keys keys of the entities
+   * @return a result of every key in the same order. Keys which are not found are reported as errors.
+   */
+  @Transactional
+  public List<RestResult<KEY>> deleteAll(Collection<KEY> keys) {
+    List<KEY> items = new ArrayList<>(keys);
+    List<RestResult<KEY>> results = new ArrayList<>(items.size());
+    for (int from = 0; from < items.size(); from += getBatchSize()) {
+      List<KEY> chunk = items.subList(from, Math.min(from + getBatchSize(), items.size()));
+      chunk.forEach(this::invalidate);
+      Map<KEY, ENTITY> targets = findAllByKey(chunk);
+      chunk.forEach(key -> results.add(targets.containsKey(key) ? RestResult.ok(key) : RestResult.error(key, NOT_FOUND)));
+      getRepo().deleteAll(targets.values(), getBatchSize(), false);
+    }
+    return results;
+  }
+
   /**
    * Get an {@link ENTITY} entity by the given {@link KEY}. Otherwise, throw exception if nothing is found.
    *
@@ -152,12 +415,29 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    */
   @SneakyThrows
   public RESPONSE get(KEY key) {
-    return getRepo().findById(key)
-        .map(getMapper()::toResponse)
+    return Optional.ofNullable(getCache() == null ? findResponse(key) : getCache().get(key, this::findResponse))
         .map(getAfterFindOne())
         .orElseThrow(getFindException());
   }
 
+  private RESPONSE findResponse(KEY key) {
+    return coalesce(Arrays.asList(GET, key), () -> getRepo().findById(key).map(getMapper()::toResponse).orElse(null));
+  }
+
+  /**
+   * Get {@link RESPONSE} of every found {@link ENTITY} entity with the given keys using as few queries as possible.
+   *
+   * @param keys       keys of the entities
+   * @param parameters optional params customizing responses. Criteria of the params filter the entities further.
+   * @return responses in the order of the keys. Keys which are not found are skipped.
+   */
+  public List<RESPONSE> getAll(Collection<KEY> keys, SEARCH parameters) {
+    return getRepo().getAll(keys, parameters).stream()
+        .map(getMapper()::toResponse)
+        .map(getAfterFindOne())
+        .collect(Collectors.toList());
+  }
+
   /**
    * // @formatter:off
    * Get an {@link ENTITY} entity by the given {@link KEY} with options to customize response to get only what is needed all the way to database and back.
@@ -168,10 +448,12 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    * @return an updated {@link RESPONSE} which is never null other wise throw an exception if something goes wrong in the process. Ex: no entity found for the given key.
    */
   @SneakyThrows
+  @SuppressWarnings("unchecked")
   public RESPONSE get(KEY key, SEARCH parameters) {
-    return Optional.of(parameters)
-        .map(params -> getRepo().get(key, params))
-        .map(getMapper()::toResponse)
+    Function<SearchKey, RESPONSE> loader = cacheKey -> coalesce(cacheKey,
+        () -> Optional.ofNullable(getRepo().get(key, parameters)).map(getMapper()::toResponse).orElse(null));
+    SearchKey searchKey = getSearchCache() == null && getSingleFlight() == null ? null : searchKey(parameters, GET, key);
+    return Optional.ofNullable(getSearchCache() == null ? loader.apply(searchKey) : (RESPONSE) getSearchCache().get(searchKey, loader))
         .map(getAfterFindOne())
         .orElseThrow(getFindException());
   }
@@ -187,15 +469,45 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    * @return a {@link Slice} {@link RESPONSE} which is never null other wise throw an exception if something goes wrong in the process. Ex: no entity found for the given key.
    */
   @SneakyThrows
+  @SuppressWarnings("unchecked")
   public Slice<RESPONSE> search(SEARCH parameters, Pageable pageable) {
     return Optional.of(parameters)
         .map(getSearchTransformer())
-        .map(params -> getRepo().search(parameters, pageable))
-        .map(slice -> slice.map(getMapper()::toResponse))
+        .map(params -> {
+          Function<SearchKey, Slice<RESPONSE>> loader = cacheKey -> coalesce(cacheKey,
+              () -> getRepo().search(params, pageable).map(getMapper()::toResponse));
+          SearchKey searchKey = getSearchCache() == null && getSingleFlight() == null ? null : searchKey(params, SEARCH_SLICE, pageable);
+          return getSearchCache() == null ? loader.apply(searchKey) : (Slice<RESPONSE>) getSearchCache().get(searchKey, loader);
+        })
         .map(getAfterSearchSlice())
         .orElseThrow(getSearchException());
   }
 
+  private <V> V coalesce(Object flightKey, Supplier<V> call) {
+    if (getSingleFlight() == null || flightKey == null
+        || TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return call.get();
+    }
+    return getSingleFlight().execute(flightKey, call);
+  }
+
+  /**
+   * Key of a cached read. Includes are keyed by their {@link Projection} which is hashed once. Subclasses adding fields changing results besides criteria,
+   * includes and excludes should add them too.
+   *
+   * @param parameters search params
+   * @param extras     operation and arguments of the read
+   * @return key of {@link #searchCache}
+   */
+  protected SearchKey searchKey(SEARCH parameters, Object... extras) {
+    Object[] all = Arrays.copyOf(extras, extras.length + 3);
+    Projection projection = parameters.getProjection();
+    all[extras.length] = projection != null ? projection : new HashSet<>(parameters.getIncludes());
+    all[extras.length + 1] = CollectionUtils.isEmpty(parameters.getExcludes());
+    all[extras.length + 2] = parameters.isExcludeMetadata();
+    return SearchKey.of(getRepo().getEntityClass(), parameters, all);
+  }
+
   /**
    * // @formatter:off
    * Search a {@link Page} of {@link RESPONSE} entities filtering by subclasses of {@link AbstractSearch} with options to customize response to get only what is needed all the way to database and back.
@@ -206,16 +518,120 @@ public abstract class AbstractService<REQUEST, RESPONSE, SEARCH extends Abstract
    * @param pageable paging for the search
    * @return a {@link Page} of {@link RESPONSE} which is never null other wise throw an exception if something goes wrong in the process. Ex: no entity found for the given key.
    */
-  @SneakyThrows
   public Page<RESPONSE> searchPage(SEARCH parameters, Pageable pageable) {
+    return searchPage(parameters, pageable, getCountStrategy());
+  }
+
+  /**
+   * Same as {@link #searchPage(AbstractSearch, Pageable)} but the total is computed with the given strategy.
+   *
+   * @param parameters filtering params {@link AbstractSearch}
+   * @param pageable paging for the search
+   * @param countStrategy strategy computing the total or null to use the default strategy of the repository
+   * @return a {@link Page} of {@link RESPONSE} which is never null other wise throw an exception if something goes wrong in the process.
+   */
+  @SneakyThrows
+  public Page<RESPONSE> searchPage(SEARCH parameters, Pageable pageable, CountStrategy countStrategy) {
     return Optional.of(parameters)
         .map(getSearchTransformer())
-        .map(params -> getRepo().searchPage(parameters, pageable))
+        .map(params -> getRepo().searchPage(params, pageable, countStrategy, getCountExecutor()))
         .map(slice -> slice.map(getMapper()::toResponse))
         .map(getAfterSearchPage())
         .orElseThrow(getSearchPageException());
   }
 
+  /**
+   * // @formatter:off
+   * Stream {@link RESPONSE} entities filtering by subclasses of {@link AbstractSearch}. Rows are read and mapped lazily so memory stays flat regardless of the
+   * number of results.
+   * <br>Must be called within a transaction and the stream must be closed once consumed. Ex: try-with-resources.
+   * // @formatter:on
+   *
+   * @param parameters filtering params {@link AbstractSearch}
+   * @param sort sort of the results
+   * @return a lazy {@link Stream} of {@link RESPONSE}
+   */
+  public Stream<RESPONSE> stream(SEARCH parameters, Sort sort) {
+    return getRepo().stream(getSearchTransformer().apply(parameters), sort)
+        .map(getMapper()::toResponse)
+        .map(getAfterStreamMapping());
+  }
+
+  /**
+   * Same as {@link #stream(AbstractSearch, Sort)} with the given JDBC fetch size which bounds the rows buffered per stream
+   *
+   * @param parameters filtering params {@link AbstractSearch}
+   * @param sort sort of the results
+   * @param fetchSize number of rows to fetch per round trip
+   * @return a lazy {@link Stream} of {@link RESPONSE}
+   */
+  public Stream<RESPONSE> stream(SEARCH parameters, Sort sort, int fetchSize) {
+    return getRepo().stream(getSearchTransformer().apply(parameters), sort, fetchSize)
+        .map(getMapper()::toResponse)
+        .map(getAfterStreamMapping());
+  }
+
+  /**
+   * Stream all {@link RESPONSE} entities filtering by subclasses of {@link AbstractSearch} to the given consumer within a read-only transaction.
+   *
+   * @param parameters filtering params {@link AbstractSearch}
+   * @param sort sort of the results
+   * @param consumer consumer of every row. Ex: a writer of an export
+   */
+  @Transactional(readOnly = true)
+  public void export(SEARCH parameters, Sort sort, Consumer<RESPONSE> consumer) {
+    try (Stream<RESPONSE> rows = stream(parameters, sort)) {
+      rows.forEach(consumer);
+    }
+  }
+
+  /**
+   * // @formatter:off
+   * Search a {@link CursorSlice} of {@link RESPONSE} entities using keyset (seek) pagination. Use the returned cursor to get the next slice.
+   * <br>Unlike {@link #search(AbstractSearch, Pageable)}, deep slices cost the same as the first one.
+   * // @formatter:on
+   *
+   * @param parameters filtering params {@link AbstractSearch}
+   * @param cursor cursor from a previous {@link CursorSlice} or null to get the first slice
+   * @param pageable size and sort for the search. Page number is ignored.
+   * @return a {@link CursorSlice} of {@link RESPONSE} which is never null other wise throw an exception if something goes wrong in the process.
+   */
+  @SneakyThrows
+  public CursorSlice<RESPONSE> searchAfter(SEARCH parameters, String cursor, Pageable pageable) {
+    return Optional.of(parameters)
+        .map(getSearchTransformer())
+        .map(params -> getRepo().searchAfter(params, cursor, pageable))
+        .map(slice -> slice.map(getMapper()::toResponse))
+        .map(getAfterSearchAfter())
+        .orElseThrow(getSearchException());
+  }
+
+  protected Map<KEY, ENTITY> findAllByKey(List<KEY> keys) {
+    Map<KEY, ENTITY> entities = new HashMap<>();
+    getRepo().findAllById(keys).forEach(entity -> entities.put(getRepo().getKey(entity), entity));
+    return entities;
+  }
+
+  /**
+   * @return null if the request is valid. Otherwise, an error result with violation messages.
+   */
+  protected <T> RestResult<T> validate(REQUEST request) {
+    if (validator == null) {
+      return null;
+    }
+    Set<ConstraintViolation<REQUEST>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    List<String> messages = violations.stream().map(violation -> violation.getPropertyPath() + " " + violation.getMessage()).collect(Collectors.toList());
+    return RestResult.<T>builder().status(RestResult.STATUS_ERROR).message(String.join("\r\n", messages)).messages(messages).build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> RestResult<T>[] newResults(int size) {
+    return (RestResult<T>[]) new RestResult[size];
+  }
+
   protected String getMessage(String messageCode) {
     return messageSource != null ? messageSource.getMessage(messageCode, new Object[0], Locale.getDefault()) :
         resourceBundle != null ? resourceBundle.getString(messageCode) : "There is no resource available to get message";
@@ -0,0 +1,135 @@
+package io.github.voduku.service;
+
+import io.github.voduku.concurrent.TaskExecutors;
+import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.BatchItem;
+import io.github.voduku.model.CursorSlice;
+import io.github.voduku.model.RestResult;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * // @formatter:off
+ * Run operations of a {@link Service} on an executor so callers don't block on JDBC. Virtual threads are used by default when the JVM supports them,
+ * otherwise a bounded pool of platform threads shared by every async service.
+ * <br>Transactions are bound to threads so every operation runs in its own transaction on the worker: read-only for reads and read-write for writes. Operations
+ * never join a transaction of the caller. The {@link org.springframework.security.core.context.SecurityContext} of the caller is carried onto the worker so
+ * metadata and access checks see the same user.
+ * // @formatter:on
+ *
+ * @param <REQUEST>  Request Type
+ * @param <RESPONSE> Response Type
+ * @param <SEARCH>   Search Type
+ * @param <KEY>      Entity Key Type
+ * @author VuDo
+ * @since 1.3.0
+ */
+@Getter
+public class AsyncService<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, KEY> {
+
+  private final Service<REQUEST, RESPONSE, SEARCH, KEY> service;
+  private final Executor executor;
+  private final TransactionTemplate readTransaction;
+  private final TransactionTemplate writeTransaction;
+
+  /**
+   * @param service            service running the operations
+   * @param executor           executor running the operations or null to use the default executor
+   * @param transactionManager transaction manager of the operations or null to run them without transactions
+   */
+  public AsyncService(Service<REQUEST, RESPONSE, SEARCH, KEY> service, Executor executor, PlatformTransactionManager transactionManager) {
+    this.service = service;
+    this.executor = new DelegatingSecurityContextExecutor(executor == null ? DefaultExecutor.INSTANCE : executor);
+    if (transactionManager == null) {
+      this.readTransaction = null;
+      this.writeTransaction = null;
+    } else {
+      this.readTransaction = new TransactionTemplate(transactionManager);
+      this.readTransaction.setReadOnly(true);
+      this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+  }
+
+  public CompletableFuture<Boolean> exists(KEY key) {
+    return read(() -> service.exists(key));
+  }
+
+  public CompletableFuture<RESPONSE> get(KEY key) {
+    return read(() -> service.get(key));
+  }
+
+  public CompletableFuture<RESPONSE> get(KEY key, SEARCH parameters) {
+    return read(() -> service.get(key, parameters));
+  }
+
+  public CompletableFuture<Slice<RESPONSE>> search(SEARCH parameters, Pageable pageable) {
+    return read(() -> service.search(parameters, pageable));
+  }
+
+  public CompletableFuture<Page<RESPONSE>> searchPage(SEARCH parameters, Pageable pageable) {
+    return read(() -> service.searchPage(parameters, pageable));
+  }
+
+  public CompletableFuture<CursorSlice<RESPONSE>> searchAfter(SEARCH parameters, String cursor, Pageable pageable) {
+    return read(() -> service.searchAfter(parameters, cursor, pageable));
+  }
+
+  public CompletableFuture<RESPONSE> create(KEY key, REQUEST request) {
+    return write(() -> service.create(key, request));
+  }
+
+  public CompletableFuture<RESPONSE> update(KEY key, REQUEST request) {
+    return write(() -> service.update(key, request));
+  }
+
+  public CompletableFuture<Void> delete(KEY key) {
+    return write(() -> {
+      service.delete(key);
+      return null;
+    });
+  }
+
+  public CompletableFuture<List<RestResult<RESPONSE>>> createAll(List<BatchItem<KEY, REQUEST>> items) {
+    return write(() -> service.createAll(items));
+  }
+
+  public CompletableFuture<List<RestResult<RESPONSE>>> updateAll(List<BatchItem<KEY, REQUEST>> items) {
+    return write(() -> service.updateAll(items));
+  }
+
+  public CompletableFuture<List<RestResult<KEY>>> deleteAll(Collection<KEY> keys) {
+    return write(() -> service.deleteAll(keys));
+  }
+
+  public CompletableFuture<List<RESPONSE>> getAll(Collection<KEY> keys, SEARCH parameters) {
+    return read(() -> service.getAll(keys, parameters));
+  }
+
+  protected <T> CompletableFuture<T> read(Supplier<T> operation) {
+    return supply(readTransaction, operation);
+  }
+
+  protected <T> CompletableFuture<T> write(Supplier<T> operation) {
+    return supply(writeTransaction, operation);
+  }
+
+  private <T> CompletableFuture<T> supply(TransactionTemplate transaction, Supplier<T> operation) {
+    return CompletableFuture.supplyAsync(transaction == null ? operation : () -> transaction.execute(status -> operation.get()), executor);
+  }
+
+  private static final class DefaultExecutor {
+
+    private static final ExecutorService INSTANCE = TaskExecutors.newTaskExecutor("async-service", 200);
+  }
+}
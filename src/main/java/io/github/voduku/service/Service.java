@@ -1,9 +1,18 @@
 package io.github.voduku.service;
 
 import io.github.voduku.model.AbstractSearch;
+import io.github.voduku.model.BatchItem;
+import io.github.voduku.model.CursorSlice;
+import io.github.voduku.model.RestResult;
+import io.github.voduku.repository.count.CountStrategy;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 /**
  * Basic CRUD functionalities with options to customizable search to reduce memory foot print
@@ -24,13 +33,31 @@ public interface Service<REQUEST, RESPONSE, SEARCH extends AbstractSearch<?>, KE
 
   RESPONSE update(KEY key, REQUEST response);
 
+  List<RestResult<RESPONSE>> createAll(List<BatchItem<KEY, REQUEST>> items);
+
+  List<RestResult<RESPONSE>> updateAll(List<BatchItem<KEY, REQUEST>> items);
+
+  List<RestResult<KEY>> deleteAll(Collection<KEY> keys);
+
   RESPONSE get(KEY key);
 
   RESPONSE get(KEY key, SEARCH parameters);
 
+  List<RESPONSE> getAll(Collection<KEY> keys, SEARCH parameters);
+
   void delete(KEY key);
 
   Slice<RESPONSE> search(SEARCH parameters, Pageable pageable);
 
   Page<RESPONSE> searchPage(SEARCH parameters, Pageable pageable);
+
+  Page<RESPONSE> searchPage(SEARCH parameters, Pageable pageable, CountStrategy countStrategy);
+
+  Stream<RESPONSE> stream(SEARCH parameters, Sort sort);
+
+  Stream<RESPONSE> stream(SEARCH parameters, Sort sort, int fetchSize);
+
+  void export(SEARCH parameters, Sort sort, Consumer<RESPONSE> consumer);
+
+  CursorSlice<RESPONSE> searchAfter(SEARCH parameters, String cursor, Pageable pageable);
 }
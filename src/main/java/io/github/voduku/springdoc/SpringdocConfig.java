@@ -2,7 +2,7 @@ package io.github.voduku.springdoc;
 
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 
-import io.github.voduku.controller.AbstractController;
+import io.github.voduku.controller.AbstractServiceController;
 import io.github.voduku.model.AbstractEntity;
 import io.github.voduku.model.AbstractSearch;
 import io.github.voduku.model.AbstractSearch.Fields;
@@ -10,6 +10,7 @@ import io.github.voduku.model.criteria.DateCriteria;
 import io.github.voduku.model.criteria.NumberCriteria;
 import io.github.voduku.model.criteria.SearchCriteria;
 import io.github.voduku.model.criteria.StringCriteria;
+import io.github.voduku.service.Service;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.NumberSchema;
@@ -25,7 +26,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +41,10 @@ import org.springframework.core.MethodParameter;
 import org.springframework.web.method.HandlerMethod;
 
 /**
+ * // @formatter:off
+ * Customize operations of abstract controllers. Everything resolved with reflection for a handler method (key type, search fields and criteria schemas) is
+ * computed once per controller and method, so regenerating the document only adjusts operations.
+ * // @formatter:on
  *
  * @author VuDo
  * @since 4/20/2021
@@ -47,7 +54,7 @@ public abstract class SpringdocConfig {
 
   private static final List<String> EXPLICIT_SEARCH_PARAMETERS = List.of(Fields.includes.name(), Fields.excludes.name());
   private static final Set<String> AVAILABLE_METADATA = Arrays.stream(AbstractEntity.Fields.values()).map(Enum::name).collect(Collectors.toSet());
-  private static final List<String> OPERATIONS_TO_BE_FILTERED = List.of("getCustom", "getSlice", "getPage");
+  private static final List<String> OPERATIONS_TO_BE_FILTERED = List.of("getCustom", "getSlice", "getPage", "getAll", "export", "stream");
   private static final String DOT = ".";
   private static final String EQUAL = DOT + "eq";
   private static final String ID = "id";
@@ -63,6 +70,10 @@ public abstract class SpringdocConfig {
 
   @Autowired(required = false)
   private ApplicationContext context;
+  // handler docs by controller class and method
+  private final Map<List<Object>, Optional<Boolean>> autoGeneratedKeys = new ConcurrentHashMap<>();
+  private final Map<List<Object>, Optional<String>> searchFields = new ConcurrentHashMap<>();
+  private final Map<List<Object>, Map<String, Schema<?>>> criteriaSchemas = new ConcurrentHashMap<>();
 
   @Bean
   public OperationCustomizer customizer() {
@@ -83,7 +94,12 @@ public abstract class SpringdocConfig {
     if (!ABSTRACT_CONTROLLER_NAMES.contains(handlerMethod.getMethod().getName())) {
       return;
     }
-    boolean isAutoGeneratedKey = ((AbstractController<?, ?, ?, ?>) context.getBean((String) handlerMethod.getBean())).getService().isAutoGeneratedKey();
+    Optional<Boolean> autoGeneratedKey = autoGeneratedKeys.computeIfAbsent(key(handlerMethod),
+        key -> Optional.ofNullable(getService(handlerMethod)).map(Service::isAutoGeneratedKey));
+    if (autoGeneratedKey.isEmpty()) {
+      return;
+    }
+    boolean isAutoGeneratedKey = autoGeneratedKey.get();
     if (Arrays.stream(handlerMethod.getMethodParameters()).anyMatch(param -> unparsableIdTypes.contains(param.getParameterType()))
         && !handlerMethod.getMethod().getName().equals("create") || !isAutoGeneratedKey) {
       var schema = getSchema(handlerMethod.getMethodParameters()[0].getParameterType());
@@ -106,13 +122,25 @@ public abstract class SpringdocConfig {
     }
   }
 
+  /**
+   * Handler methods inherited from abstract controllers are the same method for every controller so docs are cached by both
+   */
+  private List<Object> key(HandlerMethod handlerMethod) {
+    return List.of(handlerMethod.getBeanType(), handlerMethod.getMethod());
+  }
+
+  private Service<?, ?, ?, ?> getService(HandlerMethod handlerMethod) {
+    Object controller = handlerMethod.getBean() instanceof String ? context.getBean((String) handlerMethod.getBean()) : handlerMethod.getBean();
+    return controller instanceof AbstractServiceController ? ((AbstractServiceController<?, ?, ?, ?>) controller).getService() : null;
+  }
+
   private void setEnumForParameter(Parameter parameter, HandlerMethod handlerMethod) {
-    Arrays.stream(handlerMethod.getMethodParameters())
-        .filter(methodParameter -> AbstractSearch.class.isAssignableFrom(methodParameter.getParameterType()))
-        .findFirst()
-        .map(this::getEnums)
-        .ifPresent(enums -> parameter.setDescription("Available values to be " + parameter.getName().replace("s", "d")
-            + ": " + Stream.concat(enums.stream(), AVAILABLE_METADATA.stream()).distinct().collect(Collectors.joining(", "))));
+    searchFields.computeIfAbsent(key(handlerMethod), key -> Arrays.stream(handlerMethod.getMethodParameters())
+            .filter(methodParameter -> AbstractSearch.class.isAssignableFrom(methodParameter.getParameterType()))
+            .findFirst()
+            .map(this::getEnums)
+            .map(enums -> Stream.concat(enums.stream(), AVAILABLE_METADATA.stream()).distinct().collect(Collectors.joining(", "))))
+        .ifPresent(fields -> parameter.setDescription("Available values to be " + parameter.getName().replace("s", "d") + ": " + fields));
   }
 
   @SuppressWarnings("unchecked")
@@ -129,12 +157,12 @@ public abstract class SpringdocConfig {
       operation.getParameters().removeIf(param -> param.getName().contains(DOT));
       return;
     }
-    var fieldSchemas = Arrays.stream(handlerMethod.getMethodParameters())
+    var fieldSchemas = criteriaSchemas.computeIfAbsent(key(handlerMethod), key -> Arrays.stream(handlerMethod.getMethodParameters())
         .map(MethodParameter::getParameterType)
         .filter(AbstractSearch.class::isAssignableFrom)
         .map(Class::getDeclaredFields)
         .flatMap(Arrays::stream)
-        .collect(Collectors.toMap(Field::getName, this::getSchema));
+        .collect(Collectors.toUnmodifiableMap(Field::getName, this::getSchema)));
 
     var paramNames = new HashSet<>();
     List<Parameter> toBeRemoved = new ArrayList<>();